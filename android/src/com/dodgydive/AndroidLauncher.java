@@ -11,6 +11,6 @@ public class AndroidLauncher extends AndroidApplication {
 	protected void onCreate (Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 		AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
-		initialize(new DodgyDiveGame(), config);
+		initialize(new DodgyDiveGame(new AndroidRuntimeStats()), config);
 	}
 }
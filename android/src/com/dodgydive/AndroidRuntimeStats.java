@@ -0,0 +1,64 @@
+package com.dodgydive;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Debug;
+
+/******************************************************************
+ * Heap and garbage collection numbers for Android. The collection
+ * counts come from the ART runtime stats, which exist from Android 6.0
+ * (API 23) on. Older devices only report the heap. Allocations aren't
+ * counted without turning on allocation tracking, so they're not
+ * reported.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class AndroidRuntimeStats implements RuntimeStats {
+	@Override
+	public long getHeapUsed() {
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+	}
+
+	@Override
+	public long getHeapMax() {
+		return Runtime.getRuntime().maxMemory();
+	}
+
+	@Override
+	public long getGcCount() {
+		return runtimeStat("art.gc.gc-count");
+	}
+
+	@Override
+	public long getGcMillis() {
+		return runtimeStat("art.gc.gc-time");
+	}
+
+	@Override
+	public long getAllocatedBytes() {
+		return -1;
+	}
+
+	/******************************************************************
+	 * Reads a number from the ART runtime stats, or -1 if the device
+	 * doesn't have it.
+	 ******************************************************************/
+	@TargetApi(Build.VERSION_CODES.M)
+	private static long runtimeStat(String name) {
+		if(Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+			return -1;
+		}
+
+		String value = Debug.getRuntimeStat(name);
+
+		try {
+			return value == null ? -1 : Long.parseLong(value);
+		}
+		catch(NumberFormatException e) {
+			return -1;
+		}
+	}
+}
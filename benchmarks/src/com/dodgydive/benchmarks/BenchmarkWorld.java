@@ -0,0 +1,19 @@
+package com.dodgydive.benchmarks;
+
+/******************************************************************
+ * The world size and difficulty every benchmark plays at, the same
+ * as the desktop window and the default difficulty.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+final class BenchmarkWorld {
+	static final float WIDTH = 1920;
+	static final float HEIGHT = 1080;
+	static final float DIFFICULTY = 175f;
+
+	private BenchmarkWorld() {
+	}
+}
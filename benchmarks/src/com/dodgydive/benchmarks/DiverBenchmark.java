@@ -0,0 +1,73 @@
+package com.dodgydive.benchmarks;
+
+import com.dodgydive.Diver;
+import com.dodgydive.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/******************************************************************
+ * Benchmarks of one simulation step of the diver, falling and swimming
+ * up. Whenever the diver leaves the world (where a game would end) it's
+ * put back in the middle, so every step is measured with a position
+ * and speed a real game can have.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiverBenchmark {
+	private Diver diver;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		diver = new Diver();
+		restart();
+	}
+
+	@Benchmark
+	public float update() {
+		diver.update(GameWorld.STEP);
+
+		if(diver.getY() < 0) {
+			diver.swimUp(GameWorld.STEP); /* the only way to reset the falling speed */
+			restart();
+		}
+
+		return diver.getY();
+	}
+
+	@Benchmark
+	public float updateAndSwimUp() {
+		diver.update(GameWorld.STEP);
+		diver.swimUp(GameWorld.STEP);
+
+		if(diver.getY() + diver.getHeight() > BenchmarkWorld.HEIGHT) {
+			restart();
+		}
+
+		return diver.getY();
+	}
+
+	private void restart() {
+		diver.setPosition(BenchmarkWorld.WIDTH / 4, BenchmarkWorld.HEIGHT / 2);
+	}
+}
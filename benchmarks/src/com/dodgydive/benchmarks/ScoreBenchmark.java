@@ -0,0 +1,114 @@
+package com.dodgydive.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.dodgydive.GameSettings;
+import com.dodgydive.SettingsStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/******************************************************************
+ * Benchmarks of saving a finished game's score, the way
+ * GameScreen.updateScores does it: a new GameSettings snapshot is made
+ * with the score ranked in, and handed to the SettingsStore, which
+ * queues the keys that changed to be written in the background.
+ *
+ * <p>The store needs real preferences, so the benchmark runs inside
+ * the headless libGDX backend. It writes to its own preferences file,
+ * not the game's.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+	private static final String PREFERENCES_NAME = "Benchmark_Settings";
+	private HeadlessApplication application;
+	private SettingsStore settings;
+	private GameSettings snapshot;
+	private int nextScore;
+
+	@Setup(Level.Trial)
+	public void startBackend() {
+		application = new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+	}
+
+	/******************************************************************
+	 * Starts every iteration from an empty scoreboard.
+	 ******************************************************************/
+	@Setup(Level.Iteration)
+	public void setUp() {
+		Gdx.app.getPreferences(PREFERENCES_NAME).clear();
+		settings = new SettingsStore(Gdx.app.getPreferences(PREFERENCES_NAME));
+		snapshot = settings.get();
+		nextScore = 1;
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		settings.dispose();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopBackend() {
+		application.exit();
+	}
+
+	/******************************************************************
+	 * Ranks a score into the snapshot without saving it. Every score is
+	 * a new hi-score, so all the scores below it move down.
+	 ******************************************************************/
+	@Benchmark
+	public GameSettings withNewHiScore() {
+		return snapshot.withScore(nextScore++);
+	}
+
+	/******************************************************************
+	 * Ranks a score that doesn't make the scoreboard.
+	 ******************************************************************/
+	@Benchmark
+	public GameSettings withLowScore() {
+		return snapshot.withScore(0);
+	}
+
+	/******************************************************************
+	 * GameScreen.updateScores with a new hi-score every time.
+	 ******************************************************************/
+	@Benchmark
+	public GameSettings updateScoresNewHiScore() {
+		settings.update(settings.get().withScore(nextScore++));
+		return settings.get();
+	}
+
+	/******************************************************************
+	 * GameScreen.updateScores with a score that doesn't make the
+	 * scoreboard.
+	 ******************************************************************/
+	@Benchmark
+	public GameSettings updateScoresLowScore() {
+		settings.update(settings.get().withScore(0));
+		return settings.get();
+	}
+}
@@ -0,0 +1,85 @@
+package com.dodgydive.benchmarks;
+
+import com.dodgydive.Diver;
+import com.dodgydive.GameRandom;
+import com.dodgydive.GameWorld;
+import com.dodgydive.Shark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/******************************************************************
+ * Benchmarks of a single shark: one simulation step, and the follow
+ * range and collision checks made for it every step. The shark is
+ * placed either close enough to the diver to follow it, or far enough
+ * away that the range check fails, since the two take different paths.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharkBenchmark {
+	@Param({"near", "far"})
+	public String placement;
+
+	private Shark shark;
+	private Diver diver;
+	private GameRandom random;
+	private float sharkX;
+	private float sharkY;
+
+	/******************************************************************
+	 * Places the diver in the middle of the screen and the shark either
+	 * just ahead of it or at the right edge of the screen.
+	 ******************************************************************/
+	@Setup(Level.Iteration)
+	public void setUp() {
+		random = new GameRandom(1L);
+		diver = new Diver();
+		diver.setPosition(BenchmarkWorld.WIDTH / 4, BenchmarkWorld.HEIGHT / 2);
+		shark = new Shark(BenchmarkWorld.DIFFICULTY);
+		sharkX = "near".equals(placement) ? diver.getX() + shark.getFollowRange() / 2 : BenchmarkWorld.WIDTH;
+		sharkY = diver.getY();
+		shark.setPosition(sharkX, sharkY);
+	}
+
+	/******************************************************************
+	 * One step of the shark. It's put back every step so it stays in
+	 * the same place relative to the diver.
+	 ******************************************************************/
+	@Benchmark
+	public float update() {
+		shark.setPosition(sharkX, sharkY);
+		shark.update(GameWorld.STEP, diver, random);
+		return shark.getY();
+	}
+
+	@Benchmark
+	public boolean diverInRange() {
+		return shark.diverInRange(diver);
+	}
+
+	@Benchmark
+	public boolean hasCollidedWithDiver() {
+		return shark.hasCollidedWithDiver(diver);
+	}
+}
@@ -0,0 +1,91 @@
+package com.dodgydive.benchmarks;
+
+import com.dodgydive.GameRandom;
+import com.dodgydive.GameWorld;
+import com.dodgydive.HoverAutopilot;
+import com.dodgydive.PackedSharkStore;
+import com.dodgydive.PooledSharkStore;
+import com.dodgydive.SharkStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/******************************************************************
+ * Benchmarks of one GameWorld.step() with a given number of sharks on
+ * screen: every shark is updated, the ones that left the world are
+ * dropped and new ones are spawned (GameWorld.updateSharks), then the
+ * diver is moved, checked for collisions and scored. The collision
+ * check on its own is measured separately.
+ *
+ * <p>Both shark stores are measured at 10, 100 and 1000 sharks on
+ * screen. The diver is invulnerable and kept hovering by a
+ * HoverAutopilot, so the session never ends. Before measuring, the
+ * session is stepped until the first shark has crossed the screen, so
+ * the whole screen is filled at the right spacing. The packed store is
+ * made with room for sharksOnScreen + 2 sharks, the same as the
+ * simulation and stress launchers, so any work it does to make room
+ * for new sharks is measured too.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharkStoreBenchmark {
+	@Param({"10", "100", "1000"})
+	public int sharksOnScreen;
+
+	@Param({"pooled", "packed"})
+	public String store;
+
+	private GameWorld world;
+
+	/******************************************************************
+	 * Starts a session and steps it until the screen is full of sharks.
+	 ******************************************************************/
+	@Setup(Level.Iteration)
+	public void setUp() {
+		SharkStore sharks = "packed".equals(store)
+				? new PackedSharkStore(BenchmarkWorld.DIFFICULTY, sharksOnScreen + 2)
+				: new PooledSharkStore(BenchmarkWorld.DIFFICULTY);
+		world = new GameWorld(BenchmarkWorld.WIDTH, BenchmarkWorld.HEIGHT, BenchmarkWorld.DIFFICULTY, null,
+				sharks, new GameRandom(1L));
+		world.setInput(new HoverAutopilot(world));
+		world.setInvulnerable(true);
+		world.setSharksOnScreen(sharksOnScreen);
+
+		world.step();
+		while(world.getSharks().getOldestX() > 0) {
+			world.step();
+		}
+	}
+
+	@Benchmark
+	public int step() {
+		world.step();
+		return world.getSharks().size();
+	}
+
+	@Benchmark
+	public boolean hasCollidedWithDiver() {
+		return world.getSharks().hasCollidedWithDiver(world.getDiver());
+	}
+}
@@ -0,0 +1,102 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/******************************************************************
+ * Class that splits the sprite sheets in the texture atlas into
+ * animations once, when the assets are loaded, and hands the same
+ * animation to every screen and entity that asks for it. Animations
+ * are looked up by region name, tile size and frame duration.
+ *
+ * <p>The animations are shared, so callers must not change their
+ * frame duration or play mode. Entities only keep their own state
+ * timer and pass it to the animation when they're drawn.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class AnimationRegistry {
+	private final TextureAtlas textureAtlas;
+	private final ObjectMap<String, Animation> animations = new ObjectMap<String, Animation>();
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param textureAtlas TextureAtlas holding the sprite sheets
+	 ******************************************************************/
+	public AnimationRegistry(TextureAtlas textureAtlas) {
+		this.textureAtlas = textureAtlas;
+	}
+
+	/******************************************************************
+	 * Splits a sprite sheet from the atlas into tiles of the given size
+	 * and stores a looping animation of them. Registering the same sheet
+	 * twice returns the animation that was already built.
+	 *
+	 * @param regionName    String name of the sprite sheet in the atlas
+	 * @param tileWidth     int representing the width of a single frame
+	 * @param tileHeight    int representing the height of a single frame
+	 * @param frameDuration float representing how long each frame is shown
+	 * @return Animation looping through all the frames of the sheet
+	 ******************************************************************/
+	public Animation register(String regionName, int tileWidth, int tileHeight, float frameDuration) {
+		String key = key(regionName, tileWidth, tileHeight, frameDuration);
+		Animation animation = animations.get(key);
+
+		if(animation == null) {
+			TextureRegion sheet = textureAtlas.findRegion(regionName);
+
+			if(sheet == null) {
+				throw new GdxRuntimeException("No region named " + regionName + " in the texture atlas");
+			}
+
+			TextureRegion[][] tiles = new TextureRegion(sheet).split(tileWidth, tileHeight);
+
+			Array<TextureRegion> frames = new Array<TextureRegion>();
+			for(TextureRegion[] tileRow : tiles) {
+				for(TextureRegion tile : tileRow) {
+					frames.add(tile);
+				}
+			}
+
+			animation = new Animation(frameDuration, frames, Animation.PlayMode.LOOP);
+			animations.put(key, animation);
+		}
+
+		return animation;
+	}
+
+	/******************************************************************
+	 * Getter method for an animation that was registered while loading
+	 * the assets.
+	 *
+	 * @param regionName    String name of the sprite sheet in the atlas
+	 * @param tileWidth     int representing the width of a single frame
+	 * @param tileHeight    int representing the height of a single frame
+	 * @param frameDuration float representing how long each frame is shown
+	 * @return Animation looping through all the frames of the sheet
+	 ******************************************************************/
+	public Animation get(String regionName, int tileWidth, int tileHeight, float frameDuration) {
+		Animation animation = animations.get(key(regionName, tileWidth, tileHeight, frameDuration));
+
+		if(animation == null) {
+			throw new GdxRuntimeException("Animation for " + regionName + " was never registered");
+		}
+
+		return animation;
+	}
+
+	/******************************************************************
+	 * Builds the lookup key for an animation.
+	 ******************************************************************/
+	private static String key(String regionName, int tileWidth, int tileHeight, float frameDuration) {
+		return regionName + ":" + tileWidth + "x" + tileHeight + "@" + frameDuration;
+	}
+}
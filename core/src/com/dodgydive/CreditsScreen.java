@@ -42,20 +42,41 @@ public class CreditsScreen extends ScreenAdapter {
 	}
 
 	/******************************************************************
-	 * Draws all of the relevant assets on the screen. A table is used
-	 * to make sure the alignment of the assets is consistent.
+	 * Hands input to the credits stage, building it the first time. The
+	 * credits are a fixed image, so nothing else needs refreshing.
 	 ******************************************************************/
 	@Override
 	public void show() {
 		super.show();
 
-		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
+		if(stage == null) {
+			buildStage();
+		}
+
 		Gdx.input.setInputProcessor(stage);
+	}
+
+	/******************************************************************
+	 * Takes input away from the credits' buttons while another screen
+	 * is shown.
+	 ******************************************************************/
+	@Override
+	public void hide() {
+		super.hide();
+		Gdx.input.setInputProcessor(null);
+	}
+
+	/******************************************************************
+	 * Builds the stage with all of the relevant assets. A table is used
+	 * to make sure the alignment of the assets is consistent.
+	 ******************************************************************/
+	private void buildStage() {
+		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
 
 		Table table = new Table();
 		table.setFillParent(true);
 
-		TextureAtlas textureAtlas = dodgyDiveGame.getAssetManager().get("dodgy_dive_assets.atlas");
+		TextureAtlas textureAtlas = dodgyDiveGame.getAssets().getAtlas();
 
 		TextureRegion backgroundTexture = textureAtlas.findRegion("credits_screen");
 		Image background = new Image(backgroundTexture);
@@ -71,8 +92,7 @@ public class CreditsScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new SettingsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showSettingsScreen();
 			}
 		});
 
@@ -86,8 +106,7 @@ public class CreditsScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new StartScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showStartScreen();
 			}
 		});
 
@@ -100,8 +119,7 @@ public class CreditsScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new ScoreboardScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showScoreboardScreen();
 			}
 		});
 
@@ -143,7 +161,10 @@ public class CreditsScreen extends ScreenAdapter {
 	@Override
 	public void dispose() {
 		super.dispose();
-		stage.dispose();
+
+		if(stage != null) {
+			stage.dispose();
+		}
 	}
 
 	/******************************************************************
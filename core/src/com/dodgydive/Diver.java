@@ -5,7 +5,6 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
 
 /******************************************************************
  * Class that draws and updates the diver character that the player is in
@@ -19,46 +18,43 @@ import com.badlogic.gdx.utils.Array;
 public class Diver {
 	private static final float COLLISION_WIDTH = 118f;
 	private static final float COLLISION_HEIGHT = 56f;
-	private static final float SWIM_UP_ACCELERATION = 2f;
-	private static final int TILE_WIDTH = 120;
-	private static final int TILE_HEIGHT = 58;
-	private static final float FRAME_DURATION = 0.15f;
+	private static final float SWIM_UP_SPEED = 120f; /* 2 pixels per frame at 60 fps */
+	private static final float GRAVITY = 450f; /* 0.125 pixels per frame, per frame at 60 fps */
+	static final int TILE_WIDTH = 120;
+	static final int TILE_HEIGHT = 58;
+	static final float FRAME_DURATION = 0.15f;
 	private final Rectangle collisionRect;
-	private final Animation swimAnimation;
 	private float x = 0;
 	private float y = 0;
+	private float prevX = 0;
+	private float prevY = 0;
 	private float ySpeed = 0;
 	private float animationTimer = 0;
 
 	/******************************************************************
 	 * Constructor method for the class. Set's up the diver instance
-	 * and set's the texture that will be used to display the diver, as
-	 * well as creating the animation and collision rectangle for the diver.
-	 *
-	 * @param diverTexture Texture for the diver while they are alive
+	 * and creates the collision rectangle for the diver. The diver only
+	 * keeps its own state, the animation is supplied when it's drawn.
 	 ******************************************************************/
-	public Diver(TextureRegion diverTexture) {
-		TextureRegion[][] diverTextures = new TextureRegion(diverTexture).split(TILE_WIDTH, TILE_HEIGHT);
-
-		Array<TextureRegion> diverFrames = new Array<TextureRegion>();
-		for(TextureRegion[] diverTextureArr : diverTextures) {
-			for(TextureRegion aDiverTexture : diverTextureArr) diverFrames.add(aDiverTexture);
-		}
-
-		swimAnimation = new Animation(FRAME_DURATION, diverFrames, Animation.PlayMode.LOOP);
+	public Diver() {
 		collisionRect = new Rectangle(x, y, COLLISION_WIDTH, COLLISION_HEIGHT);
 	}
 
 	/******************************************************************
-	 * Updates the position of the diver.
+	 * Updates the position of the diver, pulling it down by gravity.
+	 * The position before the update is kept so drawing can blend
+	 * between the two.
 	 *
-	 * @param delta float that will be used to update the animation timer.
+	 * @param delta float representing the length of the simulation step
+	 *              in seconds, used for the movement and animation timer.
 	 ******************************************************************/
 	public void update(float delta) {
+		prevX = x;
+		prevY = y;
 		animationTimer += delta;
-		float downAcceleration = 0.125f;
-		ySpeed -= downAcceleration;
-		setPosition(x, y + ySpeed);
+		ySpeed -= GRAVITY * delta;
+		y += ySpeed * delta;
+		updateCollisionRect();
 	}
 
 	/******************************************************************
@@ -100,16 +96,30 @@ public class Diver {
 	/******************************************************************
 	 * Draws the diver onto the screen
 	 *
-	 * @param batch SpriteBatch that will draw the diver onto the screen
+	 * @param batch         SpriteBatch that will draw the diver onto the screen
+	 * @param swimAnimation Animation holding the frames of the diver costume
+	 * @param alpha         float between 0 and 1 representing how far the
+	 *                      frame is between the last two simulation steps
 	 ******************************************************************/
-	public void draw(SpriteBatch batch) {
+	public void draw(SpriteBatch batch, Animation swimAnimation, float alpha) {
 
 		TextureRegion diverTexture = swimAnimation.getKeyFrame(animationTimer);
 
-		float textureX = collisionRect.x - diverTexture.getRegionWidth();
-		float textureY = collisionRect.y - diverTexture.getRegionHeight();
+		float textureX = prevX + (x - prevX) * alpha;
+		float textureY = prevY + (y - prevY) * alpha;
 
-		batch.draw(diverTexture, textureX + diverTexture.getRegionWidth(), textureY + diverTexture.getRegionHeight());
+		batch.draw(diverTexture, textureX, textureY);
+	}
+
+	/******************************************************************
+	 * Draws the diver's death animation where the diver last was.
+	 *
+	 * @param batch          SpriteBatch that will draw the diver onto the screen
+	 * @param deathAnimation Animation holding the frames of the dead diver
+	 * @param stateTime      float representing how long the diver has been dead
+	 ******************************************************************/
+	public void drawDead(SpriteBatch batch, Animation deathAnimation, float stateTime) {
+		batch.draw(deathAnimation.getKeyFrame(stateTime, false), x, y);
 	}
 
 	/******************************************************************
@@ -122,7 +132,8 @@ public class Diver {
 	}
 
 	/******************************************************************
-	 * Sets the position of the diver and its collision rectangle
+	 * Places the diver and its collision rectangle at the given position
+	 * without blending from where it was before.
 	 *
 	 * @param x float value to be used to set the x-position of the diver
 	 * @param y float value to be used to set the y-position of the diver
@@ -130,15 +141,20 @@ public class Diver {
 	public void setPosition(float x, float y) {
 		this.x = x;
 		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
 		updateCollisionRect();
 	}
 
 	/******************************************************************
 	 * Make the diver object go up on screen.
+	 *
+	 * @param delta float representing the length of the simulation step
 	 ******************************************************************/
-	public void swimUp() {
-		ySpeed = SWIM_UP_ACCELERATION;
-		setPosition(x, y + ySpeed);
+	public void swimUp(float delta) {
+		ySpeed = SWIM_UP_SPEED;
+		y += ySpeed * delta;
+		updateCollisionRect();
 	}
 
 	/******************************************************************
@@ -148,6 +164,33 @@ public class Diver {
 		collisionRect.setPosition(x, y);
 	}
 
+	/******************************************************************
+	 * Checks whether the diver's collision rectangle overlaps a rectangle.
+	 *
+	 * @param x      float representing the x-position of the other rectangle
+	 * @param y      float representing the y-position of the other rectangle
+	 * @param width  float representing the width of the other rectangle
+	 * @param height float representing the height of the other rectangle
+	 * @return boolean representing whether the rectangles overlap
+	 ******************************************************************/
+	public boolean overlapsRect(float x, float y, float width, float height) {
+		return Geometry.rectsOverlap(collisionRect.x, collisionRect.y, collisionRect.width, collisionRect.height,
+				x, y, width, height);
+	}
+
+	/******************************************************************
+	 * Checks whether the diver's collision rectangle overlaps a circle.
+	 *
+	 * @param centerX float representing the x-position of the circle's center
+	 * @param centerY float representing the y-position of the circle's center
+	 * @param radius  float representing the radius of the circle
+	 * @return boolean representing whether the circle touches the diver
+	 ******************************************************************/
+	public boolean overlapsCircle(float centerX, float centerY, float radius) {
+		return Geometry.circleOverlapsRect(centerX, centerY, radius,
+				collisionRect.x, collisionRect.y, collisionRect.width, collisionRect.height);
+	}
+
 	/******************************************************************
 	 * Getter method for the collision rectangle.
 	 *
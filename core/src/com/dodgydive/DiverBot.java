@@ -0,0 +1,185 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.ai.fsm.DefaultStateMachine;
+import com.badlogic.gdx.ai.fsm.StateMachine;
+import com.badlogic.gdx.utils.FloatArray;
+
+/******************************************************************
+ * Input that plays the game on its own, so it can be left running for
+ * hours on screen or without a window to look for memory leaks, garbage
+ * collection creep and frames getting slower.
+ *
+ * <p>Every step it looks at the sharks between the diver's tail and
+ * LOOKAHEAD pixels in front of it, and turns each into a band of
+ * heights the diver mustn't be at. What it does with them is decided
+ * by a gdx-ai state machine with the states in DiverBotState: it
+ * cruises at the middle of the world while nothing is coming, and
+ * picks a gap between the bands to swim to when something is. Either
+ * way it swims up whenever the diver is below the height it's aiming
+ * for.
+ *
+ * <p>Nothing is allocated while playing once the bands have grown to
+ * the most sharks it has seen ahead at once.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class DiverBot implements GameInput {
+	static final float LOOKAHEAD = 250f;
+	static final float SHARK_MARGIN = 64f;
+	static final float EDGE_MARGIN = 40f;
+	private static final float CROSSING_COST = 10000f;
+	private final GameWorld world;
+	private final StateMachine<DiverBot, DiverBotState> stateMachine;
+	private final FloatArray bands = new FloatArray();
+	private float targetY;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param world GameWorld whose diver the bot steers
+	 ******************************************************************/
+	public DiverBot(GameWorld world) {
+		this.world = world;
+		this.targetY = getCruiseY();
+		this.stateMachine = new DefaultStateMachine<DiverBot, DiverBotState>(this, DiverBotState.CRUISE);
+	}
+
+	@Override
+	public boolean isTouched() {
+		findBands();
+		stateMachine.update();
+		return world.getDiver().getY() < targetY;
+	}
+
+	/******************************************************************
+	 * Getter method for the state the bot is in.
+	 *
+	 * @return DiverBotState the bot is in
+	 ******************************************************************/
+	public DiverBotState getState() {
+		return stateMachine.getCurrentState();
+	}
+
+	/******************************************************************
+	 * Getter method for the height the bot is swimming to.
+	 *
+	 * @return float representing the y-position of the diver it aims for
+	 ******************************************************************/
+	public float getTargetY() {
+		return this.targetY;
+	}
+
+	void setTargetY(float targetY) {
+		this.targetY = targetY;
+	}
+
+	StateMachine<DiverBot, DiverBotState> getStateMachine() {
+		return this.stateMachine;
+	}
+
+	/******************************************************************
+	 * Height of the diver in the middle of the world.
+	 ******************************************************************/
+	float getCruiseY() {
+		return (world.getHeight() - world.getDiver().getHeight()) / 2;
+	}
+
+	/******************************************************************
+	 * Whether any shark is close enough to dodge.
+	 ******************************************************************/
+	boolean hasThreats() {
+		return bands.size > 0;
+	}
+
+	/******************************************************************
+	 * Whether the diver would hit one of the sharks ahead at a height.
+	 ******************************************************************/
+	boolean isBlocked(float y) {
+		for(int i = 0; i < bands.size; i += 2) {
+			if(y > bands.get(i) && y < bands.get(i + 1)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/******************************************************************
+	 * Picks the height to dodge to. The candidates are the middle of
+	 * the world and the heights just above and below every band. Free
+	 * heights are ranked by how far the diver has to swim to get there,
+	 * and each band the diver would have to swim through on the way
+	 * counts as CROSSING_COST pixels more.
+	 ******************************************************************/
+	float findGap() {
+		float y = world.getDiver().getY();
+		float best = getCruiseY();
+		float bestCost = cost(y, best);
+
+		for(int i = 0; i < bands.size; i++) {
+			float candidate = bands.get(i) + (i % 2 == 0 ? -1f : 1f);
+			float cost = cost(y, candidate);
+
+			if(cost < bestCost) {
+				best = candidate;
+				bestCost = cost;
+			}
+		}
+
+		return best;
+	}
+
+	/******************************************************************
+	 * How much it costs to swim from one height to another, or
+	 * Float.MAX_VALUE if the diver can't stay at the second one.
+	 ******************************************************************/
+	private float cost(float fromY, float toY) {
+		if(toY < EDGE_MARGIN || toY > world.getHeight() - world.getDiver().getHeight() - EDGE_MARGIN || isBlocked(toY)) {
+			return Float.MAX_VALUE;
+		}
+
+		float low = Math.min(fromY, toY);
+		float high = Math.max(fromY, toY);
+		float cost = high - low;
+
+		for(int i = 0; i < bands.size; i += 2) {
+			if(bands.get(i) < high && bands.get(i + 1) > low) {
+				cost += CROSSING_COST;
+			}
+		}
+
+		return cost;
+	}
+
+	/******************************************************************
+	 * Collects the band of diver heights each shark ahead rules out,
+	 * as pairs of bottom and top heights. Sharks are sorted by
+	 * x-position, so the search stops at the first one past LOOKAHEAD.
+	 ******************************************************************/
+	private void findBands() {
+		Diver diver = world.getDiver();
+		SharkStore sharks = world.getSharks();
+		float tailX = diver.getX();
+		float maxX = diver.getX() + diver.getWidth() + LOOKAHEAD;
+
+		bands.clear();
+		for(int i = 0; i < sharks.size(); i++) {
+			float sharkX = sharks.getX(i);
+
+			if(sharkX > maxX) {
+				break;
+			}
+
+			if(sharkX + Shark.COLLISION_WIDTH < tailX) {
+				continue;
+			}
+
+			float sharkY = sharks.getY(i);
+			bands.add(sharkY - diver.getHeight() - SHARK_MARGIN);
+			bands.add(sharkY + Shark.COLLISION_HEIGHT + SHARK_MARGIN);
+		}
+	}
+}
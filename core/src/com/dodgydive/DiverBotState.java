@@ -0,0 +1,65 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.ai.fsm.State;
+import com.badlogic.gdx.ai.msg.Telegram;
+
+/******************************************************************
+ * The states of a DiverBot's state machine.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public enum DiverBotState implements State<DiverBot> {
+
+	/******************************************************************
+	 * No shark is ahead, so the diver swims back to the middle of the
+	 * world, where it has the most room to dodge the next one.
+	 ******************************************************************/
+	CRUISE() {
+		@Override
+		public void update(DiverBot bot) {
+			if(bot.hasThreats()) {
+				bot.getStateMachine().changeState(DODGE);
+			}
+			else {
+				bot.setTargetY(bot.getCruiseY());
+			}
+		}
+	},
+
+	/******************************************************************
+	 * Sharks are ahead. The diver swims to a gap between them and stays
+	 * there until that gap closes, so it doesn't keep changing its mind.
+	 ******************************************************************/
+	DODGE() {
+		@Override
+		public void enter(DiverBot bot) {
+			bot.setTargetY(bot.findGap());
+		}
+
+		@Override
+		public void update(DiverBot bot) {
+			if(!bot.hasThreats()) {
+				bot.getStateMachine().changeState(CRUISE);
+			}
+			else if(bot.isBlocked(bot.getTargetY())) {
+				bot.setTargetY(bot.findGap());
+			}
+		}
+	};
+
+	@Override
+	public void enter(DiverBot bot) {
+	}
+
+	@Override
+	public void exit(DiverBot bot) {
+	}
+
+	@Override
+	public boolean onMessage(DiverBot bot, Telegram telegram) {
+		return false;
+	}
+}
@@ -1,12 +1,25 @@
 package com.dodgydive;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.files.FileHandle;
 
 /******************************************************************
- * Wrapper class for our game, it loads the assets and starts the app
+ * Wrapper class for our game, it loads the assets and starts the app.
+ * It also switches between the screens: each menu screen is created
+ * the first time it's shown and kept until the game closes, while a
+ * new GameScreen is made for every game.
+ *
+ * <p>Assets are loaded a little every frame. The loading screen is
+ * shown until the start screen's assets are in, and the rest keep
+ * loading while the start screen is up. Going to another screen before
+ * everything is loaded shows the loading screen again until it is.
+ *
+ * <p>Each screen holds on to the atlas page of its background while
+ * it's shown, so the backgrounds of screens that aren't shown can be
+ * unloaded once the pages go over TEXTURE_BUDGET.
  *
  * @author      Damian Jimenez, jimenez.dmn@gmail.com
  *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
@@ -14,18 +27,259 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
  *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
  ******************************************************************/
 public class DodgyDiveGame extends Game {
-	private final AssetManager assetManager = new AssetManager();
+	private static final int DECODE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	private static final long TEXTURE_BUDGET = 40L * 1024 * 1024;
+	private GameAssets assets;
+	private LoadingScreen loadingScreen;
+	private AnimationRegistry animations;
+	private SettingsStore settings;
+	private FontCache fonts;
+	private StartScreen startScreen;
+	private SettingsScreen settingsScreen;
+	private ScoreboardScreen scoreboardScreen;
+	private CreditsScreen creditsScreen;
+	private String heldBackground;
+	private final RuntimeStats runtimeStats;
+	private boolean debugOverlay = false;
+	private boolean autopilot = false;
+	private StressTest stressTest;
+	private FileHandle stressReport;
+
+	/******************************************************************
+	 * Constructor method for the class. The debug overlay reads the heap
+	 * size from java.lang.Runtime and can't show garbage collections.
+	 ******************************************************************/
+	public DodgyDiveGame() {
+		this(new RuntimeStats() {
+			@Override
+			public long getHeapUsed() {
+				return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+			}
+
+			@Override
+			public long getHeapMax() {
+				return Runtime.getRuntime().maxMemory();
+			}
+
+			@Override
+			public long getGcCount() {
+				return -1;
+			}
+
+			@Override
+			public long getGcMillis() {
+				return -1;
+			}
+
+			@Override
+			public long getAllocatedBytes() {
+				return -1;
+			}
+		});
+	}
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param runtimeStats RuntimeStats the debug overlay reads the heap
+	 *                     and garbage collection numbers from
+	 ******************************************************************/
+	public DodgyDiveGame(RuntimeStats runtimeStats) {
+		this.runtimeStats = runtimeStats;
+	}
 
 	/******************************************************************
-	 * Load the assets and create a new instance of our game.
+	 * Start loading the assets and show the loading screen until the
+	 * start screen can be shown.
 	 ******************************************************************/
 	@Override
 	public void create() {
-		assetManager.load("dodgy_dive_assets.atlas", TextureAtlas.class);
-		assetManager.load("debug_font.fnt", BitmapFont.class);
+		settings = new SettingsStore(Gdx.app.getPreferences(SettingsStore.PREFERENCES_NAME));
+		fonts = new FontCache(Gdx.files.internal("score_font.ttf"), Gdx.files.isLocalStorageAvailable());
+		assets = new GameAssets(new AssetManager(), DECODE_THREADS, TEXTURE_BUDGET);
+		loadingScreen = new LoadingScreen(assets);
+
+		loadingScreen.waitFor(true, new Runnable() {
+			@Override
+			public void run() {
+				loadAnimations();
+
+				if(stressTest != null) {
+					showWhenLoaded(new StressScreen(DodgyDiveGame.this, stressTest, stressReport), GameSettings.DEFAULT_BACKGROUND);
+				}
+				else if(autopilot) {
+					startGame();
+				}
+				else {
+					showStartScreen();
+				}
+			}
+		});
+		setScreen(loadingScreen);
+	}
+
+	/******************************************************************
+	 * Makes the game run a stress test instead of showing the start
+	 * screen once the assets are loaded. Must be called before the
+	 * application starts.
+	 *
+	 * @param stressTest StressTest to run
+	 * @param report     FileHandle the CSV report is written to
+	 ******************************************************************/
+	public void runStressTest(StressTest stressTest, FileHandle report) {
+		this.stressTest = stressTest;
+		this.stressReport = report;
+	}
+
+	/******************************************************************
+	 * Loads assets for a few milliseconds, until everything is loaded,
+	 * then renders the current screen.
+	 ******************************************************************/
+	@Override
+	public void render() {
+		assets.update();
+		super.render();
+	}
+
+	/******************************************************************
+	 * Switches to the start screen.
+	 ******************************************************************/
+	public void showStartScreen() {
+		if(startScreen == null) {
+			startScreen = new StartScreen(this);
+		}
+
+		holdBackground("title_background");
+		setScreen(startScreen);
+	}
+
+	/******************************************************************
+	 * Switches to the settings screen.
+	 ******************************************************************/
+	public void showSettingsScreen() {
+		if(settingsScreen == null) {
+			settingsScreen = new SettingsScreen(this);
+		}
+
+		showWhenLoaded(settingsScreen, "settings_background");
+	}
+
+	/******************************************************************
+	 * Switches to the scoreboard screen.
+	 ******************************************************************/
+	public void showScoreboardScreen() {
+		if(scoreboardScreen == null) {
+			scoreboardScreen = new ScoreboardScreen(this);
+		}
+
+		showWhenLoaded(scoreboardScreen, "scores_background");
+	}
+
+	/******************************************************************
+	 * Switches to the credits screen.
+	 ******************************************************************/
+	public void showCreditsScreen() {
+		if(creditsScreen == null) {
+			creditsScreen = new CreditsScreen(this);
+		}
+
+		showWhenLoaded(creditsScreen, "credits_screen");
+	}
+
+	/******************************************************************
+	 * Starts a new game on a fresh game screen.
+	 ******************************************************************/
+	public void startGame() {
+		showWhenLoaded(new GameScreen(this), settings.get().getBackground());
+	}
+
+	/******************************************************************
+	 * Switches to a screen right away if all the assets are loaded,
+	 * otherwise shows the loading screen until they are.
+	 *
+	 * @param screen     Screen to switch to
+	 * @param background String name of the background region the screen draws
+	 ******************************************************************/
+	private void showWhenLoaded(final Screen screen, String background) {
+		holdBackground(background);
+
+		if(assets.isFinished()) {
+			setScreen(screen);
+			return;
+		}
+
+		loadingScreen.waitFor(false, new Runnable() {
+			@Override
+			public void run() {
+				setScreen(screen);
+			}
+		});
+		setScreen(loadingScreen);
+	}
+
+	/******************************************************************
+	 * Acquires the page of the next screen's background before releasing
+	 * the page of the last one, so going between screens that share a
+	 * page never unloads it.
+	 ******************************************************************/
+	private void holdBackground(String background) {
+		assets.acquire(background);
 
-		assetManager.finishLoading();
-		setScreen(new StartScreen(this));
+		if(heldBackground != null) {
+			assets.release(heldBackground);
+		}
+
+		heldBackground = background;
+	}
+
+	/******************************************************************
+	 * Saves the settings and scores right away, since the app may be
+	 * killed while it's in the background.
+	 ******************************************************************/
+	@Override
+	public void pause() {
+		super.pause();
+		settings.flush();
+	}
+
+	/******************************************************************
+	 * Disposes the menu screens and saves the settings and scores
+	 * before the game closes.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		super.dispose();
+
+		if(startScreen != null) {
+			startScreen.dispose();
+		}
+		if(settingsScreen != null) {
+			settingsScreen.dispose();
+		}
+		if(scoreboardScreen != null) {
+			scoreboardScreen.dispose();
+		}
+		if(creditsScreen != null) {
+			creditsScreen.dispose();
+		}
+
+		loadingScreen.dispose();
+		fonts.dispose();
+		assets.dispose();
+		settings.dispose();
+	}
+
+	/******************************************************************
+	 * Splits the diver costumes and the shark sprite sheets into their
+	 * animations once, so the game screen doesn't have to every time
+	 * it's shown.
+	 ******************************************************************/
+	private void loadAnimations() {
+		animations = new AnimationRegistry(assets.getAtlas());
+		animations.register("diver", Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+		animations.register("diver_alt", Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+		animations.register("diver_dead", Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+		animations.register("shark", Shark.TILE_WIDTH, Shark.TILE_HEIGHT, Shark.FRAME_DURATION);
 	}
 
 	/******************************************************************
@@ -36,6 +290,97 @@ public class DodgyDiveGame extends Game {
 	 *            (i.e., images, sprites, etc.)
 	 ******************************************************************/
 	public AssetManager getAssetManager() {
-		return this.assetManager;
+		return assets.getAssetManager();
+	}
+
+	/******************************************************************
+	 * Getter method for the assets, which are loaded a little every
+	 * frame.
+	 *
+	 * @return    GameAssets holding the atlas and the loading progress
+	 ******************************************************************/
+	public GameAssets getAssets() {
+		return this.assets;
+	}
+
+	/******************************************************************
+	 * Getter method for the shared animations of the diver and sharks.
+	 *
+	 * @return    AnimationRegistry holding the animations built when
+	 *            the assets were loaded
+	 ******************************************************************/
+	public AnimationRegistry getAnimations() {
+		return this.animations;
+	}
+
+	/******************************************************************
+	 * Getter method for the fonts generated from the score font, which
+	 * are shared by all the screens.
+	 *
+	 * @return    FontCache holding the generated fonts
+	 ******************************************************************/
+	public FontCache getFonts() {
+		return this.fonts;
+	}
+
+	/******************************************************************
+	 * Getter method for the heap and garbage collection numbers of the
+	 * platform the game runs on.
+	 *
+	 * @return    RuntimeStats handed over by the launcher
+	 ******************************************************************/
+	public RuntimeStats getRuntimeStats() {
+		return this.runtimeStats;
+	}
+
+	/******************************************************************
+	 * Getter method for whether the game screen shows the debug overlay.
+	 * It's remembered between games, but not between launches.
+	 *
+	 * @return    boolean representing whether the overlay is shown
+	 ******************************************************************/
+	public boolean isDebugOverlay() {
+		return this.debugOverlay;
+	}
+
+	/******************************************************************
+	 * Setter method for whether the game screen shows the debug overlay.
+	 *
+	 * @param debugOverlay boolean representing whether the overlay is shown
+	 ******************************************************************/
+	public void setDebugOverlay(boolean debugOverlay) {
+		this.debugOverlay = debugOverlay;
+	}
+
+	/******************************************************************
+	 * Getter method for whether a DiverBot plays the games.
+	 *
+	 * @return    boolean representing whether the autopilot is on
+	 ******************************************************************/
+	public boolean isAutopilot() {
+		return this.autopilot;
+	}
+
+	/******************************************************************
+	 * Setter method for whether a DiverBot plays the games. While it's
+	 * on, games start one after the other without going back to the
+	 * start screen and their scores aren't saved. If it's on when the
+	 * application starts, the first game starts once the assets are
+	 * loaded.
+	 *
+	 * @param autopilot boolean representing whether the autopilot is on
+	 ******************************************************************/
+	public void setAutopilot(boolean autopilot) {
+		this.autopilot = autopilot;
+	}
+
+	/******************************************************************
+	 * Getter method for the player's settings and hi-scores, which are
+	 * read from the preferences file once when the game starts.
+	 *
+	 * @return    SettingsStore holding the current settings snapshot
+	 ******************************************************************/
+	public SettingsStore getSettings() {
+		return this.settings;
 	}
 }
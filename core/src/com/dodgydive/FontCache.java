@@ -0,0 +1,255 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.zip.CRC32;
+
+/******************************************************************
+ * Class that hands out the fonts generated from a TrueType file. Each
+ * variant (size, border width and kerning) is generated the first
+ * time it's asked for and then shared by every screen, so entering a
+ * screen doesn't rasterize the font again. The fonts belong to the
+ * cache and are disposed with it, so screens must not dispose them.
+ *
+ * <p>If persisting is turned on, the glyph pages and an AngelCode .fnt
+ * file of every generated variant are also written to local storage,
+ * and later launches load those files instead of running FreeType.
+ * The saved fonts are kept in a directory of their own for each font
+ * file, together with a key made of CACHE_VERSION and a checksum of
+ * the font file. If the key doesn't match, e.g. because the font file
+ * was updated, the directory is cleared and the fonts are generated
+ * again.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class FontCache implements Disposable {
+	private static final String CACHE_ROOT = "font_cache/";
+	private static final String LEGACY_CACHE_DIRECTORY = "font_cache/v1/";
+	/* Bump whenever generate() or persist() change what ends up in the saved files */
+	private static final int CACHE_VERSION = 2;
+	private static final int PAGE_SIZE = 1024;
+	private final FileHandle fontFile;
+	private final boolean persist;
+	private final ObjectMap<String, BitmapFont> fonts = new ObjectMap<String, BitmapFont>();
+	private FileHandle cacheDirectory;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param fontFile FileHandle of the TrueType font to generate from
+	 * @param persist  boolean representing whether generated fonts are
+	 *                 saved to local storage for later launches
+	 ******************************************************************/
+	public FontCache(FileHandle fontFile, boolean persist) {
+		this.fontFile = fontFile;
+		this.persist = persist;
+	}
+
+	/******************************************************************
+	 * Gets a font variant, generating it the first time it's asked for.
+	 *
+	 * @param size        int representing the size of the font in pixels
+	 * @param borderWidth float representing the width of the straight border
+	 * @param kerning     boolean representing whether kerning is applied
+	 * @return BitmapFont shared by everyone who asks for this variant
+	 ******************************************************************/
+	public BitmapFont get(int size, float borderWidth, boolean kerning) {
+		String name = fontFile.nameWithoutExtension() + "_" + size + "_" + borderWidth + (kerning ? "_k" : "");
+		BitmapFont font = fonts.get(name);
+
+		if(font == null) {
+			font = persist ? loadPersisted(name) : null;
+
+			if(font == null) {
+				font = generate(name, size, borderWidth, kerning);
+			}
+
+			fonts.put(name, font);
+		}
+
+		return font;
+	}
+
+	/******************************************************************
+	 * Disposes every font the cache has handed out.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		for(BitmapFont font : fonts.values()) {
+			font.dispose();
+		}
+
+		fonts.clear();
+	}
+
+	/******************************************************************
+	 * Rasterizes a font variant with FreeType, and saves it if
+	 * persisting is turned on.
+	 ******************************************************************/
+	private BitmapFont generate(String name, int size, float borderWidth, boolean kerning) {
+		PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+
+		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+		FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+		parameter.size = size;
+		parameter.kerning = kerning;
+		parameter.borderStraight = true;
+		parameter.borderWidth = borderWidth;
+		parameter.packer = packer;
+		FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+		generator.dispose();
+
+		/* The page textures dispose their pixmaps, so the packer itself is never disposed */
+		Array<TextureRegion> regions = new Array<TextureRegion>();
+		packer.updateTextureRegions(regions, Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+
+		if(persist) {
+			try {
+				persist(name, data, packer);
+			}
+			catch(GdxRuntimeException e) {
+				Gdx.app.error("FontCache", "Couldn't save font " + name, e);
+			}
+		}
+
+		BitmapFont font = new BitmapFont(data, regions, true);
+		font.setOwnsTexture(true);
+		return font;
+	}
+
+	/******************************************************************
+	 * Loads a font variant saved by an earlier launch.
+	 *
+	 * @return BitmapFont that was loaded, or null if there is none
+	 ******************************************************************/
+	private BitmapFont loadPersisted(String name) {
+		try {
+			FileHandle fntFile = cacheDirectory().child(name + ".fnt");
+
+			if(!fntFile.exists()) {
+				return null;
+			}
+
+			return new BitmapFont(fntFile);
+		}
+		catch(GdxRuntimeException e) {
+			Gdx.app.error("FontCache", "Couldn't load saved font " + name + ", generating it again", e);
+			return null;
+		}
+	}
+
+	/******************************************************************
+	 * Writes the glyph pages as PNGs and the glyph metrics as an
+	 * AngelCode .fnt file that BitmapFont can load, the same way
+	 * BitmapFontWriter from gdx-tools does. The .fnt file is written
+	 * last, so a half-written cache is never picked up.
+	 ******************************************************************/
+	private void persist(String name, BitmapFont.BitmapFontData data, PixmapPacker packer) {
+		Array<PixmapPacker.Page> pages = packer.getPages();
+		StringBuilder fnt = new StringBuilder();
+
+		fnt.append("info face=\"").append(fontFile.nameWithoutExtension()).append("\" size=").append((int) data.lineHeight)
+				.append(" bold=0 italic=0 charset=\"\" unicode=0 stretchH=100 smooth=1 aa=1 padding=")
+				.append((int) data.padTop).append(',').append((int) data.padRight).append(',')
+				.append((int) data.padBottom).append(',').append((int) data.padLeft).append(" spacing=1,1\n");
+		fnt.append("common lineHeight=").append((int) data.lineHeight)
+				.append(" base=").append((int) (data.capHeight + (data.flipped ? -data.ascent : data.ascent)))
+				.append(" scaleW=").append(PAGE_SIZE).append(" scaleH=").append(PAGE_SIZE)
+				.append(" pages=").append(pages.size).append(" packed=0\n");
+
+		for(int i = 0; i < pages.size; i++) {
+			String pageName = name + "_" + i + ".png";
+			PixmapIO.writePNG(cacheDirectory().child(pageName), pages.get(i).getPixmap());
+			fnt.append("page id=").append(i).append(" file=\"").append(pageName).append("\"\n");
+		}
+
+		Array<BitmapFont.Glyph> glyphs = new Array<BitmapFont.Glyph>();
+
+		for(BitmapFont.Glyph[] page : data.glyphs) {
+			if(page == null) {
+				continue;
+			}
+
+			for(BitmapFont.Glyph glyph : page) {
+				if(glyph != null) {
+					glyphs.add(glyph);
+				}
+			}
+		}
+
+		fnt.append("chars count=").append(glyphs.size).append('\n');
+
+		for(BitmapFont.Glyph glyph : glyphs) {
+			fnt.append("char id=").append(glyph.id)
+					.append(" x=").append(glyph.srcX).append(" y=").append(glyph.srcY)
+					.append(" width=").append(glyph.width).append(" height=").append(glyph.height)
+					.append(" xoffset=").append(glyph.xoffset)
+					.append(" yoffset=").append(data.flipped ? glyph.yoffset : -(glyph.height + glyph.yoffset))
+					.append(" xadvance=").append(glyph.xadvance)
+					.append(" page=").append(glyph.page).append(" chnl=0\n");
+		}
+
+		StringBuilder kernings = new StringBuilder();
+		int kerningCount = 0;
+
+		for(BitmapFont.Glyph first : glyphs) {
+			for(BitmapFont.Glyph second : glyphs) {
+				int amount = first.getKerning((char) second.id);
+
+				if(amount != 0) {
+					kernings.append("kerning first=").append(first.id).append(" second=").append(second.id)
+							.append(" amount=").append(amount).append('\n');
+					kerningCount++;
+				}
+			}
+		}
+
+		fnt.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+
+		cacheDirectory().child(name + ".fnt").writeString(fnt.toString(), false);
+	}
+
+	/******************************************************************
+	 * Finds the directory the fonts of this font file are saved in. The
+	 * first time it's called, the key saved in the directory is checked
+	 * against the current one, and the directory is cleared if they
+	 * don't match. Fonts saved before the key existed are deleted too.
+	 *
+	 * @return FileHandle of the directory in local storage
+	 ******************************************************************/
+	private FileHandle cacheDirectory() {
+		if(cacheDirectory == null) {
+			CRC32 checksum = new CRC32();
+			checksum.update(fontFile.readBytes());
+			String key = "version=" + CACHE_VERSION + " crc=" + Long.toHexString(checksum.getValue());
+
+			FileHandle directory = Gdx.files.local(CACHE_ROOT + fontFile.nameWithoutExtension() + "/");
+			FileHandle keyFile = directory.child("key");
+
+			if(!keyFile.exists() || !keyFile.readString().equals(key)) {
+				directory.deleteDirectory();
+				Gdx.files.local(LEGACY_CACHE_DIRECTORY).deleteDirectory();
+				keyFile.writeString(key, false);
+			}
+
+			cacheDirectory = directory;
+		}
+
+		return cacheDirectory;
+	}
+}
@@ -0,0 +1,183 @@
+package com.dodgydive;
+
+import java.util.Arrays;
+
+/******************************************************************
+ * Class that keeps the timings of the last SAMPLES frames (or however
+ * many it's made with) for the debug overlay and stress tests: the
+ * frame time, and how much of it went to updating the world and to
+ * drawing it. From those it works out the mean update and draw times,
+ * the 50th, 95th and 99th percentile frame times, and a histogram of
+ * frame times in BUCKET_MILLIS wide buckets.
+ *
+ * <p>Nothing is allocated after the constructor, so keeping the stats
+ * doesn't change what's being measured.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class FrameStats {
+	public static final int SAMPLES = 240;
+	public static final float BUCKET_MILLIS = 2f;
+	public static final int BUCKETS = 20;
+	private final int samples;
+	private final float[] frameMillis;
+	private final float[] updateMillis;
+	private final float[] drawMillis;
+	private final float[] sorted;
+	private final int[] histogram = new int[BUCKETS];
+	private int next = 0;
+	private int count = 0;
+	private float p50, p95, p99;
+	private float meanUpdate, meanDraw;
+
+	/******************************************************************
+	 * Constructor method for the class. Keeps the last SAMPLES frames.
+	 ******************************************************************/
+	public FrameStats() {
+		this(SAMPLES);
+	}
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param samples int representing how many of the last frames are kept
+	 ******************************************************************/
+	public FrameStats(int samples) {
+		this.samples = samples;
+		frameMillis = new float[samples];
+		updateMillis = new float[samples];
+		drawMillis = new float[samples];
+		sorted = new float[samples];
+	}
+
+	/******************************************************************
+	 * Adds the timings of one frame, replacing the oldest one once
+	 * the kept number of frames have been recorded.
+	 *
+	 * @param frameSeconds float representing the time since the last frame
+	 * @param updateNanos  long representing the time spent updating the world
+	 * @param drawNanos    long representing the time spent drawing
+	 ******************************************************************/
+	public void record(float frameSeconds, long updateNanos, long drawNanos) {
+		frameMillis[next] = frameSeconds * 1000f;
+		updateMillis[next] = updateNanos / 1000000f;
+		drawMillis[next] = drawNanos / 1000000f;
+		next = (next + 1) % samples;
+		count = Math.min(count + 1, samples);
+	}
+
+	/******************************************************************
+	 * Works out the means, percentiles and histogram of the recorded
+	 * frames. Call it once before reading them.
+	 ******************************************************************/
+	public void compute() {
+		Arrays.fill(histogram, 0);
+		float updateTotal = 0;
+		float drawTotal = 0;
+
+		for(int i = 0; i < count; i++) {
+			sorted[i] = frameMillis[i];
+			updateTotal += updateMillis[i];
+			drawTotal += drawMillis[i];
+			histogram[Math.min((int) (frameMillis[i] / BUCKET_MILLIS), BUCKETS - 1)]++;
+		}
+
+		if(count == 0) {
+			return;
+		}
+
+		Arrays.sort(sorted, 0, count);
+		p50 = sorted[rank(0.50f)];
+		p95 = sorted[rank(0.95f)];
+		p99 = sorted[rank(0.99f)];
+		meanUpdate = updateTotal / count;
+		meanDraw = drawTotal / count;
+	}
+
+	/******************************************************************
+	 * Forgets every recorded frame.
+	 ******************************************************************/
+	public void reset() {
+		next = 0;
+		count = 0;
+		p50 = p95 = p99 = 0;
+		meanUpdate = meanDraw = 0;
+		Arrays.fill(histogram, 0);
+	}
+
+	/******************************************************************
+	 * Getter method for the median frame time.
+	 *
+	 * @return float representing the number of milliseconds
+	 ******************************************************************/
+	public float getP50() {
+		return p50;
+	}
+
+	/******************************************************************
+	 * Getter method for the frame time 95% of the frames were faster than.
+	 *
+	 * @return float representing the number of milliseconds
+	 ******************************************************************/
+	public float getP95() {
+		return p95;
+	}
+
+	/******************************************************************
+	 * Getter method for the frame time 99% of the frames were faster than.
+	 *
+	 * @return float representing the number of milliseconds
+	 ******************************************************************/
+	public float getP99() {
+		return p99;
+	}
+
+	/******************************************************************
+	 * Getter method for the mean time spent updating the world.
+	 *
+	 * @return float representing the number of milliseconds
+	 ******************************************************************/
+	public float getMeanUpdateMillis() {
+		return meanUpdate;
+	}
+
+	/******************************************************************
+	 * Getter method for the mean time spent drawing.
+	 *
+	 * @return float representing the number of milliseconds
+	 ******************************************************************/
+	public float getMeanDrawMillis() {
+		return meanDraw;
+	}
+
+	/******************************************************************
+	 * Getter method for a histogram bucket. Bucket i counts the frames
+	 * that took between i and i + 1 times BUCKET_MILLIS, and the last
+	 * bucket also counts every frame slower than that.
+	 *
+	 * @param bucket int index of the bucket
+	 * @return int representing the number of frames in it
+	 ******************************************************************/
+	public int getBucket(int bucket) {
+		return histogram[bucket];
+	}
+
+	/******************************************************************
+	 * Getter method for the number of frames the stats are made from.
+	 *
+	 * @return int between 0 and the number of frames kept
+	 ******************************************************************/
+	public int getCount() {
+		return count;
+	}
+
+	/******************************************************************
+	 * Index in the sorted frame times of a percentile (nearest rank).
+	 ******************************************************************/
+	private int rank(float percentile) {
+		return Math.min(count - 1, Math.max(0, (int) Math.ceil(percentile * count) - 1));
+	}
+}
@@ -0,0 +1,436 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/******************************************************************
+ * Class that loads the game's assets a little at a time, so a frame
+ * can be drawn between each step instead of blocking until everything
+ * is decoded, and that decides which atlas pages stay in GPU memory.
+ *
+ * <p>The atlas file is only parsed up front (that's cheap). The page
+ * holding the sprites, buttons and start screen is loaded first and
+ * pinned, followed by the music and the debug font. Every other page
+ * is a full-screen background that is only loaded once a screen
+ * acquires one of its regions, and it is released again when the
+ * screen is left. Released pages stay loaded until the resident pages
+ * go over the texture budget, then the least recently used ones are
+ * unloaded.
+ *
+ * <p>The pages are decoded in parallel by a PageTextureLoader, so the
+ * AssetManager only has to upload them to the GPU. As a page finishes
+ * loading for the first time, its regions are added to the atlas
+ * returned by getAtlas(), so screens look up regions the same way they
+ * would in a fully loaded TextureAtlas. When an unloaded page is loaded
+ * again, those same regions are pointed at the new texture, so stages
+ * that were built with them keep working. Pages with a GPU-compressed
+ * copy the device supports are loaded from that copy instead.
+ *
+ * <p>The page textures are managed, so they're reloaded by libGDX if
+ * the GL context is lost and the regions never need to change for it.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class GameAssets implements Disposable {
+	public static final String ATLAS = "dodgy_dive_assets.atlas";
+	public static final String DEBUG_FONT = "debug_font.fnt";
+	public static final String GAME_MUSIC = "game_music.mp3";
+	public static final String CRUNCH_SOUND = "crunch_sound.mp3";
+	private static final String STARTUP_REGION = "title_background";
+	private static final int LOAD_BUDGET_MILLIS = 8;
+	private static final String ETC1_EXTENSION = "GL_OES_compressed_ETC1_RGB8_texture";
+	private static final String S3TC_EXTENSION = "GL_EXT_texture_compression_s3tc";
+	private final AssetManager assetManager;
+	private final PageTextureLoader pageLoader;
+	private final TextureAtlas atlas = new TextureAtlas();
+	private final TextureAtlas.TextureAtlasData atlasData;
+	private final long textureBudget;
+	/* Every page, least recently used first */
+	private final Array<ResidentPage> pages = new Array<ResidentPage>();
+	private final ResidentPage startupPage;
+	private boolean finished = false;
+
+	/******************************************************************
+	 * Class that keeps track of whether an atlas page is loaded and who
+	 * is using it.
+	 ******************************************************************/
+	private static class ResidentPage {
+		final TextureAtlas.TextureAtlasData.Page page;
+		final Array<TextureAtlas.AtlasRegion> regions = new Array<TextureAtlas.AtlasRegion>();
+		boolean pinned;
+		boolean queued;
+		boolean loaded;
+		int references;
+		long bytes;
+
+		ResidentPage(TextureAtlas.TextureAtlasData.Page page) {
+			this.page = page;
+		}
+	}
+
+	/******************************************************************
+	 * Constructor method for the class. Parses the atlas, starts
+	 * decoding the pinned page and queues it to be loaded with the
+	 * music and fonts.
+	 *
+	 * @param assetManager  AssetManager the assets are loaded with
+	 * @param decodeThreads int representing how many atlas pages can be
+	 *                      decoded at the same time
+	 * @param textureBudget long representing how many bytes of GPU
+	 *                      memory the atlas pages should stay under
+	 ******************************************************************/
+	public GameAssets(AssetManager assetManager, int decodeThreads, long textureBudget) {
+		this.assetManager = assetManager;
+		this.textureBudget = textureBudget;
+		this.pageLoader = new PageTextureLoader(assetManager.getFileHandleResolver(), decodeThreads);
+		assetManager.setLoader(Texture.class, pageLoader);
+
+		FileHandle atlasFile = Gdx.files.internal(ATLAS);
+		atlasData = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+
+		for(TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+			pages.add(new ResidentPage(page));
+		}
+
+		startupPage = findPage(STARTUP_REGION);
+		startupPage.pinned = true;
+		queuePage(startupPage);
+
+		assetManager.load(GAME_MUSIC, Music.class);
+		assetManager.load(CRUNCH_SOUND, Music.class);
+		assetManager.load(DEBUG_FONT, BitmapFont.class);
+	}
+
+	/******************************************************************
+	 * Loads assets for a few milliseconds, then adds the regions of any
+	 * page that finished loading to the atlas. Should be called once
+	 * per frame.
+	 *
+	 * @return boolean representing whether everything queued has been loaded
+	 ******************************************************************/
+	public boolean update() {
+		if(!finished) {
+			finished = assetManager.update(LOAD_BUDGET_MILLIS);
+			addLoadedPages();
+		}
+
+		return finished;
+	}
+
+	/******************************************************************
+	 * Marks the page holding a region as in use, and queues it if it
+	 * isn't loaded. The page won't be unloaded until every acquire has
+	 * been matched by a release.
+	 *
+	 * @param regionName String name of a region in the atlas
+	 ******************************************************************/
+	public void acquire(String regionName) {
+		ResidentPage resident = findPage(regionName);
+		resident.references++;
+		touch(resident);
+
+		if(!resident.queued) {
+			queuePage(resident);
+			finished = false;
+		}
+	}
+
+	/******************************************************************
+	 * Marks the page holding a region as no longer in use by whoever
+	 * acquired it. The page stays loaded until the texture budget needs
+	 * the room.
+	 *
+	 * @param regionName String name of a region in the atlas
+	 ******************************************************************/
+	public void release(String regionName) {
+		ResidentPage resident = findPage(regionName);
+
+		if(resident.references > 0) {
+			resident.references--;
+		}
+
+		touch(resident);
+		trimToBudget();
+	}
+
+	/******************************************************************
+	 * Checks whether the assets the start screen needs (its background,
+	 * the buttons and the diver and shark sheets) are loaded.
+	 *
+	 * @return boolean representing whether the start screen can be shown
+	 ******************************************************************/
+	public boolean isStartupLoaded() {
+		return startupPage.loaded;
+	}
+
+	/******************************************************************
+	 * Checks whether every asset that has been queued is loaded.
+	 *
+	 * @return boolean representing whether loading is done
+	 ******************************************************************/
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/******************************************************************
+	 * Getter method for how much of the queued assets have been loaded.
+	 *
+	 * @return float between 0 and 1
+	 ******************************************************************/
+	public float getProgress() {
+		return assetManager.getProgress();
+	}
+
+	/******************************************************************
+	 * Getter method for the atlas. Only regions of pages that have been
+	 * loaded at least once can be found in it, and only regions of
+	 * acquired pages should be drawn.
+	 *
+	 * @return TextureAtlas holding the loaded regions
+	 ******************************************************************/
+	public TextureAtlas getAtlas() {
+		return this.atlas;
+	}
+
+	/******************************************************************
+	 * Getter method for the asset manager holding the textures, music
+	 * and fonts.
+	 *
+	 * @return AssetManager the assets are loaded with
+	 ******************************************************************/
+	public AssetManager getAssetManager() {
+		return this.assetManager;
+	}
+
+	/******************************************************************
+	 * Unloads everything. The atlas doesn't own its textures, the asset
+	 * manager does.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		pageLoader.dispose();
+		assetManager.dispose();
+	}
+
+	/******************************************************************
+	 * Queues the texture of an atlas page with the settings from the
+	 * atlas file.
+	 ******************************************************************/
+	private void queuePage(ResidentPage resident) {
+		TextureAtlas.TextureAtlasData.Page page = resident.page;
+		TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+		parameter.format = page.format;
+		parameter.genMipMaps = page.useMipMaps;
+		parameter.minFilter = page.minFilter;
+		parameter.magFilter = page.magFilter;
+		parameter.wrapU = page.uWrap;
+		parameter.wrapV = page.vWrap;
+
+		pageLoader.decodeAhead(page.textureFile.path(), pickPageFile(page), page.format, page.useMipMaps);
+		assetManager.load(page.textureFile.path(), Texture.class, parameter);
+		resident.queued = true;
+	}
+
+	/******************************************************************
+	 * Picks the file a page is decoded from. The opaque pages have
+	 * GPU-compressed copies made by the desktop TextureCompressor tool:
+	 * ETC1 for Android and DXT1 for desktop GPUs. Both take an eighth of
+	 * the memory of RGBA8888 and skip PNG decoding altogether. The page
+	 * is still queued under its PNG path, so regions and lookups don't
+	 * change.
+	 *
+	 * @return FileHandle of the best copy the GPU supports, or the PNG
+	 ******************************************************************/
+	private FileHandle pickPageFile(TextureAtlas.TextureAtlasData.Page page) {
+		FileHandle png = page.textureFile;
+
+		if(page.useMipMaps) {
+			return png;
+		}
+
+		if(Gdx.graphics.supportsExtension(ETC1_EXTENSION)) {
+			FileHandle etc1 = png.sibling(png.nameWithoutExtension() + ".etc1");
+
+			if(etc1.exists()) {
+				return etc1;
+			}
+		}
+
+		if(Gdx.graphics.supportsExtension(S3TC_EXTENSION)) {
+			FileHandle ktx = png.sibling(png.nameWithoutExtension() + ".ktx");
+
+			if(ktx.exists()) {
+				return ktx;
+			}
+		}
+
+		return png;
+	}
+
+	/******************************************************************
+	 * Adds the regions of every page whose texture has been loaded for
+	 * the first time since the last call, the same way TextureAtlas does
+	 * for a whole atlas. Pages that were loaded before get their regions
+	 * pointed at the new texture instead. Loading a page can go over the
+	 * budget, so the atlas is trimmed afterwards.
+	 ******************************************************************/
+	private void addLoadedPages() {
+		boolean added = false;
+
+		for(ResidentPage resident : pages) {
+			TextureAtlas.TextureAtlasData.Page page = resident.page;
+			String path = page.textureFile.path();
+
+			if(!resident.queued || resident.loaded || !assetManager.isLoaded(path, Texture.class)) {
+				continue;
+			}
+
+			page.texture = assetManager.get(path, Texture.class);
+			resident.loaded = true;
+			resident.bytes = textureBytes(page.texture);
+			added = true;
+
+			if(resident.regions.size > 0) {
+				for(TextureAtlas.AtlasRegion atlasRegion : resident.regions) {
+					atlasRegion.setTexture(page.texture);
+				}
+				continue;
+			}
+
+			for(TextureAtlas.TextureAtlasData.Region region : atlasData.getRegions()) {
+				if(region.page != page) {
+					continue;
+				}
+
+				TextureAtlas.AtlasRegion atlasRegion = new TextureAtlas.AtlasRegion(page.texture, region.left, region.top,
+						region.rotate ? region.height : region.width, region.rotate ? region.width : region.height);
+				atlasRegion.index = region.index;
+				atlasRegion.name = region.name;
+				atlasRegion.offsetX = region.offsetX;
+				atlasRegion.offsetY = region.offsetY;
+				atlasRegion.originalWidth = region.originalWidth;
+				atlasRegion.originalHeight = region.originalHeight;
+				atlasRegion.rotate = region.rotate;
+				atlasRegion.splits = region.splits;
+				atlasRegion.pads = region.pads;
+
+				if(region.flip) {
+					atlasRegion.flip(false, true);
+				}
+
+				atlas.getRegions().add(atlasRegion);
+				resident.regions.add(atlasRegion);
+			}
+		}
+
+		if(added) {
+			trimToBudget();
+		}
+	}
+
+	/******************************************************************
+	 * How much GPU memory the loaded atlas pages take up, estimated from
+	 * their size and format.
+	 ******************************************************************/
+	private long getResidentBytes() {
+		long bytes = 0;
+
+		for(ResidentPage resident : pages) {
+			bytes += resident.bytes;
+		}
+
+		return bytes;
+	}
+
+	/******************************************************************
+	 * Unloads the least recently used pages that nobody is using until
+	 * the loaded pages fit in the texture budget again. Their regions
+	 * stay in the atlas and are pointed at the new texture if the page
+	 * is loaded again.
+	 ******************************************************************/
+	private void trimToBudget() {
+		long bytes = getResidentBytes();
+
+		for(int i = 0; i < pages.size && bytes > textureBudget; i++) {
+			ResidentPage resident = pages.get(i);
+
+			if(!resident.loaded || resident.pinned || resident.references > 0) {
+				continue;
+			}
+
+			assetManager.unload(resident.page.textureFile.path());
+			resident.page.texture = null;
+			resident.queued = false;
+			resident.loaded = false;
+			bytes -= resident.bytes;
+			resident.bytes = 0;
+		}
+	}
+
+	/******************************************************************
+	 * Moves a page to the most recently used end of the list.
+	 ******************************************************************/
+	private void touch(ResidentPage resident) {
+		pages.removeValue(resident, true);
+		pages.add(resident);
+	}
+
+	/******************************************************************
+	 * Estimates how much GPU memory a texture takes up. ETC1 and DXT1
+	 * both use half a byte per pixel.
+	 ******************************************************************/
+	private static long textureBytes(Texture texture) {
+		long pixels = (long) texture.getWidth() * texture.getHeight();
+		TextureData data = texture.getTextureData();
+
+		if(data instanceof ETC1TextureData || data instanceof KTXTextureData) {
+			return pixels / 2;
+		}
+
+		switch(data.getFormat()) {
+			case Alpha:
+			case Intensity:
+				return pixels;
+			case LuminanceAlpha:
+			case RGB565:
+			case RGBA4444:
+				return pixels * 2;
+			case RGB888:
+				return pixels * 3;
+			default:
+				return pixels * 4;
+		}
+	}
+
+	/******************************************************************
+	 * Finds the atlas page that holds a region.
+	 ******************************************************************/
+	private ResidentPage findPage(String regionName) {
+		for(TextureAtlas.TextureAtlasData.Region region : atlasData.getRegions()) {
+			if(region.name.equals(regionName)) {
+				for(ResidentPage resident : pages) {
+					if(resident.page == region.page) {
+						return resident;
+					}
+				}
+			}
+		}
+
+		throw new GdxRuntimeException("Region not found in " + ATLAS + ": " + regionName);
+	}
+}
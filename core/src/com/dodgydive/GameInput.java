@@ -0,0 +1,21 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Source of player input for the game simulation. The simulation polls
+ * this once per update, which lets the same game logic be driven by
+ * the touch screen, a script, or any other controller.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public interface GameInput {
+
+	/******************************************************************
+	 * Whether the player is currently asking the diver to swim up.
+	 *
+	 * @return boolean representing whether the screen is being touched
+	 ******************************************************************/
+	boolean isTouched();
+}
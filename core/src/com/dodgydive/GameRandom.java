@@ -0,0 +1,82 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/******************************************************************
+ * Class that hands out all the random numbers used by the game
+ * simulation. It's built from a single seed, so a whole game session
+ * can be played again exactly by reusing the seed.
+ *
+ * <p>Each kind of random number (spawn heights, shark drift and drift
+ * direction flips) comes from its own stream, so changing how often
+ * one of them is used doesn't shift the numbers the others get.
+ * Nothing is allocated when drawing numbers.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class GameRandom {
+	private static final long STREAM_INCREMENT = 0x9E3779B97F4A7C15L;
+	private final long seed;
+	private final RandomXS128 spawnStream;
+	private final RandomXS128 driftStream;
+	private final RandomXS128 flipStream;
+
+	/******************************************************************
+	 * Constructor method for the class. Uses the current time as seed.
+	 ******************************************************************/
+	public GameRandom() {
+		this(System.nanoTime());
+	}
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param seed long that decides every number the streams will return
+	 ******************************************************************/
+	public GameRandom(long seed) {
+		this.seed = seed;
+		spawnStream = new RandomXS128(seed + STREAM_INCREMENT);
+		driftStream = new RandomXS128(seed + 2 * STREAM_INCREMENT);
+		flipStream = new RandomXS128(seed + 3 * STREAM_INCREMENT);
+	}
+
+	/******************************************************************
+	 * Random height for a new shark.
+	 *
+	 * @param maxHeight float representing the highest value to return
+	 * @return float between 0 (inclusive) and maxHeight (exclusive)
+	 ******************************************************************/
+	public float nextSpawnHeight(float maxHeight) {
+		return spawnStream.nextFloat() * maxHeight;
+	}
+
+	/******************************************************************
+	 * Random vertical drift for a shark for one step.
+	 *
+	 * @return float between -5 and 5
+	 ******************************************************************/
+	public float nextDrift() {
+		return driftStream.nextFloat() * (driftStream.nextInt(11) - 5);
+	}
+
+	/******************************************************************
+	 * Random roll used to decide whether a shark flips its drift direction.
+	 *
+	 * @return int between 0 and 10 (both inclusive)
+	 ******************************************************************/
+	public int nextFlip() {
+		return flipStream.nextInt(11);
+	}
+
+	/******************************************************************
+	 * Getter method for the seed the streams were built from.
+	 *
+	 * @return long representing the seed
+	 ******************************************************************/
+	public long getSeed() {
+		return this.seed;
+	}
+}
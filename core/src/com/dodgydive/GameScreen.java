@@ -1,31 +1,54 @@
 package com.dodgydive;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.util.Locale;
-import java.util.Random;
+import java.io.IOException;
 
 /******************************************************************
  * Class that constructs the game screen where the actual game is played.
- * In this class is the logic for the game.
+ * The logic for the game lives in GameWorld, this class steps it with
+ * the player's input and draws it.
+ *
+ * <p>The screen goes through three states. While PLAYING the world is
+ * stepped every frame. When the game ends it switches to DYING, where
+ * the world is frozen but still drawn while the death animation and
+ * crunch sound play. Once the sound has finished (or DYING_TIMEOUT has
+ * passed) it switches to GAME_OVER and goes back to the start screen.
+ *
+ * <p>F3, or tapping with three fingers, toggles the debug overlay. Next
+ * to the hitboxes it shows how long the frames take (a histogram and
+ * percentiles of the last FrameStats.SAMPLES frames, and the time spent
+ * updating and drawing), the SpriteBatch render calls, the texture
+ * binds and draw calls counted by GLProfiler, and the heap and garbage
+ * collections from the platform's RuntimeStats. Draw time is the CPU
+ * time spent submitting the frame, not the time the GPU takes.
+ *
+ * <p>The touch state of every step is recorded, and when the game ends
+ * the Replay is saved to LAST_REPLAY in local storage.
+ *
+ * <p>When the DodgyDiveGame's autopilot is on, a DiverBot plays instead
+ * of the player and a new game starts as soon as one ends, so the game
+ * can be left running for soak tests.
  *
  * @author      Damian Jimenez, jimenez.dmn@gmail.com
  *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
@@ -33,34 +56,50 @@ import java.util.Random;
  *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
  ******************************************************************/
 public class GameScreen extends ScreenAdapter {
+	public static final String LAST_REPLAY = "replays/last.ddr";
+	private static final float DYING_TIMEOUT = 2f;
 	private static final int WORLD_WIDTH = Gdx.graphics.getWidth();
 	private static final int WORLD_HEIGHT = Gdx.graphics.getHeight();
-	private static final Preferences PREFS = Gdx.app.getPreferences("Game_Settings");
+	private static final float HISTOGRAM_BAR_WIDTH = 12f;
+	private static final float HISTOGRAM_HEIGHT = 120f;
+	private static final long BYTES_PER_MB = 1024 * 1024;
 	private final DodgyDiveGame dodgyDiveGame;
 	private boolean debugMode;
 	private Music gameMusic;
-	private Music crunchSound = Gdx.audio.newMusic(Gdx.files.internal("crunch_sound.mp3"));
-	private float musicVolume = PREFS.contains("musicVolume") ? PREFS.getFloat("musicVolume") : 0.5f;
+	private Music crunchSound;
 	private BitmapFont scoreFont;
 	private BitmapFont debugFont;
-	private GlyphLayout glyphLayout;
+	private HudText scoreText;
+	private HudText debugText;
 	private int scoreFontSize = 58;
+	private int hiScore;
 	private Viewport viewport;
 	private Camera camera;
 	private SpriteBatch batch;
 	private ShapeRenderer shapeRenderer;
 	private TextureRegion background;
-	private String background_name = PREFS.contains("gameBackground") ? PREFS.getString("gameBackground") : "background";
-	private Diver diver;
-	private String diver_costume = PREFS.contains("diverCostume") ? PREFS.getString("diverCostume") : "diver";
-	private TextureRegion sharkTexture;
-	private Array<Shark> sharks = new Array<Shark>();
-	private Timer scoreTimer = new Timer();
-	private int score = 0;
-	private boolean killedByShark = false;
-	private float gameDifficulty = PREFS.contains("difficulty") ? PREFS.getFloat("difficulty") : 175f;
-	private int sharksOnScreen = 10;
-	private int spaceBetweenSharks = WORLD_WIDTH / (sharksOnScreen);
+	private Animation diverAnimation;
+	private Animation sharkAnimation;
+	private GameWorld world;
+	private ReplayRecorder replayRecorder;
+	private DiverBot bot;
+	private float gameDifficulty;
+	private Animation deathAnimation;
+	private State state = State.PLAYING;
+	private float dyingTimer = 0;
+	private boolean crunchFinished = false;
+	private final FrameStats frameStats = new FrameStats();
+	private boolean overlayGesture = false;
+	private int renderCalls;
+	private int textureBindings;
+	private int drawCalls;
+
+	/******************************************************************
+	 * The states the game screen goes through during a game.
+	 ******************************************************************/
+	private enum State {
+		PLAYING, DYING, GAME_OVER
+	}
 
 	/******************************************************************
 	 * Constructor method for the class. Set's up a DodgyDiveGame instance
@@ -70,7 +109,7 @@ public class GameScreen extends ScreenAdapter {
 	 ******************************************************************/
 	public GameScreen(DodgyDiveGame dodgyDiveGame) {
 		this.dodgyDiveGame = dodgyDiveGame;
-		this.debugMode = false; /* Can be set to true to show the debug details on screen */
+		this.debugMode = dodgyDiveGame.isDebugOverlay();
 	}
 
 	/******************************************************************
@@ -80,7 +119,9 @@ public class GameScreen extends ScreenAdapter {
 	@Override
 	public void show() {
 		super.show();
-		loadScores();
+		GameSettings settings = dodgyDiveGame.getSettings().get();
+		float musicVolume = settings.getMusicVolume();
+		gameDifficulty = settings.getDifficulty();
 
 		camera = new OrthographicCamera();
 		camera.position.set(WORLD_WIDTH / 2, WORLD_HEIGHT / 2, 0);
@@ -92,59 +133,74 @@ public class GameScreen extends ScreenAdapter {
 
 		batch = new SpriteBatch();
 
-		gameMusic = Gdx.audio.newMusic(Gdx.files.internal("game_music.mp3"));
-		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("score_font.ttf"));
-		FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-		parameter.size = scoreFontSize;
-		parameter.kerning = true;
-		parameter.borderStraight = true;
-		parameter.borderWidth = 1;
-		scoreFont = generator.generateFont(parameter);
+		gameMusic = dodgyDiveGame.getAssetManager().get(GameAssets.GAME_MUSIC, Music.class);
+		crunchSound = dodgyDiveGame.getAssetManager().get(GameAssets.CRUNCH_SOUND, Music.class);
+		scoreFont = dodgyDiveGame.getFonts().get(scoreFontSize, 1, true);
 		scoreFont.setColor(0, 0, 0, 0.70f);
-		generator.dispose();
-		debugFont = dodgyDiveGame.getAssetManager().get("debug_font.fnt");
-		glyphLayout = new GlyphLayout();
-
-		TextureAtlas textureAtlas = dodgyDiveGame.getAssetManager().get("dodgy_dive_assets.atlas");
-		background = textureAtlas.findRegion(background_name);
-
-		TextureRegion diverTexture = textureAtlas.findRegion(diver_costume);
-		diver = new Diver(diverTexture);
-		diver.setPosition(WORLD_WIDTH / 4, WORLD_HEIGHT / 2);
-
-		sharkTexture = textureAtlas.findRegion("shark");
-
-		scoreTimer.scheduleTask(new Timer.Task() {
-			@Override
-			public void run() {
-
-				int bonus = 0;
-
-				if(PREFS.contains("difficulty")) {
-					if(PREFS.getFloat("difficulty") >= 150 && PREFS.getFloat("difficulty") < 250) {
-						bonus = 5;
-					}
-					else if(PREFS.getFloat("difficulty") >= 250 && PREFS.getFloat("difficulty") < 350) {
-						bonus = 10;
-					}
-					else if(PREFS.getFloat("difficulty") >= 350 && PREFS.getFloat("difficulty") < 450) {
-						bonus = 15;
+		debugFont = dodgyDiveGame.getAssetManager().get(GameAssets.DEBUG_FONT);
+		scoreText = new HudText(scoreFont, WORLD_WIDTH, Align.center);
+		debugText = new HudText(debugFont, 0, Align.left);
+		hiScore = settings.getHiScore(0);
+
+		TextureAtlas textureAtlas = dodgyDiveGame.getAssets().getAtlas();
+		background = textureAtlas.findRegion(settings.getBackground());
+
+		AnimationRegistry animations = dodgyDiveGame.getAnimations();
+		diverAnimation = animations.get(settings.getDiverCostume(), Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+		sharkAnimation = animations.get("shark", Shark.TILE_WIDTH, Shark.TILE_HEIGHT, Shark.FRAME_DURATION);
+		deathAnimation = animations.get("diver_dead", Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+
+		world = new GameWorld(WORLD_WIDTH, WORLD_HEIGHT, gameDifficulty, null);
+		world.setDifficultyBonus(settings.isDifficultySet());
+		GameInput input;
+
+		if(dodgyDiveGame.isAutopilot()) {
+			bot = new DiverBot(world);
+			input = bot;
+		}
+		else {
+			input = new GameInput() {
+				private boolean overlayGesture = false;
+
+				@Override
+				public boolean isTouched() {
+					/* The three finger overlay toggle isn't a swim, and neither are the fingers left down after it */
+					if(Gdx.input.isTouched(2)) {
+						overlayGesture = true;
 					}
-					else if(PREFS.getFloat("difficulty") >= 450) {
-						bonus = 20;
+					else if(!Gdx.input.isTouched()) {
+						overlayGesture = false;
 					}
+
+					return Gdx.input.isTouched() && !overlayGesture;
 				}
+			};
+		}
 
-				score += (10 + bonus);
-			}
-		}, 1f, 1f);
-		scoreTimer.start();
+		replayRecorder = new ReplayRecorder(input, Replay.of(world));
+		world.setInput(replayRecorder);
 
 		crunchSound.setVolume(musicVolume);
 		crunchSound.setPosition(0.4f);
+		crunchSound.setOnCompletionListener(new Music.OnCompletionListener() {
+			@Override
+			public void onCompletion(Music music) {
+				/* Android calls this on its UI thread, so hand it over to the render thread */
+				Gdx.app.postRunnable(new Runnable() {
+					@Override
+					public void run() {
+						crunchFinished = true;
+					}
+				});
+			}
+		});
 		gameMusic.setVolume(musicVolume);
 		gameMusic.play();
 		gameMusic.setLooping(true);
+
+		if(debugMode) {
+			GLProfiler.enable();
+		}
 	}
 
 	/******************************************************************
@@ -164,14 +220,66 @@ public class GameScreen extends ScreenAdapter {
 	@Override
 	public void render(float delta) {
 		super.render(delta);
+		toggleDebugMode();
+
+		long updateStart = TimeUtils.nanoTime();
+
+		if(state == State.PLAYING) {
+			world.update(delta);
+
+			if(world.isOver()) {
+				startDying();
+			}
+		}
+		else if(state == State.DYING) {
+			dyingTimer += delta;
+
+			if(crunchFinished || dyingTimer >= DYING_TIMEOUT) {
+				state = State.GAME_OVER;
+			}
+		}
+
+		long updateNanos = TimeUtils.nanoTime() - updateStart;
+
+		if(state == State.GAME_OVER) {
+			endGame();
+			return;
+		}
+
+		if(debugMode) {
+			GLProfiler.reset();
+			batch.totalRenderCalls = 0;
+		}
+
+		long drawStart = TimeUtils.nanoTime();
 		clearScreen();
 		draw();
+		long drawNanos = TimeUtils.nanoTime() - drawStart;
 
 		if(debugMode) {
+			/* Read before the overlay is drawn, so it doesn't count itself */
+			renderCalls = batch.totalRenderCalls;
+			textureBindings = GLProfiler.textureBindings;
+			drawCalls = GLProfiler.drawCalls;
+			frameStats.record(Gdx.graphics.getRawDeltaTime(), updateNanos, drawNanos);
 			drawDebug();
 		}
+	}
 
-		update(delta);
+	/******************************************************************
+	 * Stops the music and the profiler when another screen is shown.
+	 * This runs before the next screen's show(), so it can't undo the
+	 * music, listener or profiler a following game screen has just set up.
+	 ******************************************************************/
+	@Override
+	public void hide() {
+		super.hide();
+		gameMusic.stop();
+		crunchSound.setOnCompletionListener(null); /* The music belongs to the asset manager and outlives this screen */
+
+		if(debugMode) {
+			GLProfiler.disable();
+		}
 	}
 
 	/******************************************************************
@@ -180,34 +288,95 @@ public class GameScreen extends ScreenAdapter {
 	 ******************************************************************/
 	public void dispose() {
 		super.dispose();
-		scoreFont.dispose();
-		debugFont.dispose();
 		batch.dispose();
 		shapeRenderer.dispose();
-		gameMusic.dispose();
-		crunchSound.dispose();
 	}
 
 	/******************************************************************
-	 * Stop the scoreTimer and clear it of all scheduled tasks, then set
-	 * the game's screen back to the startScreen.
+	 * Turns the debug overlay on or off when F3 is pressed or the screen
+	 * is touched with three fingers. The choice carries over to the next
+	 * game. The player's input ignores the gesture, so it doesn't make
+	 * the diver swim up or end up in the replay.
 	 ******************************************************************/
-	private void endGame() {
+	private void toggleDebugMode() {
+		boolean gesture = Gdx.input.isTouched(2);
+		boolean toggled = Gdx.input.isKeyJustPressed(Input.Keys.F3) || (gesture && !overlayGesture);
+		overlayGesture = gesture;
+
+		if(!toggled) {
+			return;
+		}
+
+		debugMode = !debugMode;
+		dodgyDiveGame.setDebugOverlay(debugMode);
+
+		if(debugMode) {
+			frameStats.reset();
+			GLProfiler.enable();
+		}
+		else {
+			GLProfiler.disable();
+		}
+	}
+
+	/******************************************************************
+	 * Stops the music and saves the score of the finished game, unless
+	 * the autopilot played it. If a shark got the diver the crunch sound
+	 * is played and the screen stays in DYING until it's done, otherwise
+	 * the game is over right away.
+	 ******************************************************************/
+	private void startDying() {
 		gameMusic.stop();
+		saveReplay();
+
+		if(bot == null) {
+			updateScores(world.getScore());
+		}
 
-		if(killedByShark) {
+		if(world.isKilledByShark()) {
+			state = State.DYING;
 			crunchSound.play();
 		}
+		else {
+			state = State.GAME_OVER;
+		}
+	}
 
-		scoreTimer.stop();
-		updateScores(score);
-		scoreTimer.clear();
-		dodgyDiveGame.setScreen(new StartScreen(dodgyDiveGame));
+	/******************************************************************
+	 * Saves the replay of the finished game to LAST_REPLAY, replacing the
+	 * one of the game before. It can be played back with the desktop
+	 * ReplayLauncher to see exactly how the diver died.
+	 ******************************************************************/
+	private void saveReplay() {
+		if(!Gdx.files.isLocalStorageAvailable()) {
+			return;
+		}
 
-		while(true) {
-			if(!crunchSound.isPlaying()) {
-				break; /* Wait for the crunching sound to finish playing */
-			}
+		Replay replay = replayRecorder.getReplay();
+		replay.finish(world);
+
+		try {
+			replay.write(Gdx.files.local(LAST_REPLAY));
+		}
+		catch(IOException e) {
+			Gdx.app.error("GameScreen", "Couldn't save replay", e);
+		}
+		catch(GdxRuntimeException e) {
+			Gdx.app.error("GameScreen", "Couldn't save replay", e);
+		}
+	}
+
+	/******************************************************************
+	 * Set the game's screen back to the startScreen, or start the next
+	 * game when the autopilot is playing. Unlike the menu screens, a
+	 * game screen is only used for one game.
+	 ******************************************************************/
+	private void endGame() {
+		if(bot != null) {
+			dodgyDiveGame.startGame();
+		}
+		else {
+			dodgyDiveGame.showStartScreen();
 		}
 
 		dispose();
@@ -224,12 +393,17 @@ public class GameScreen extends ScreenAdapter {
 		batch.begin();
 
 		batch.draw(background, 0, 0, WORLD_WIDTH, WORLD_HEIGHT);
-		diver.draw(batch);
+		float alpha = world.getAlpha();
 
-		for(Shark shark : sharks) {
-			shark.draw(batch);
+		if(state == State.DYING) {
+			world.getDiver().drawDead(batch, deathAnimation, dyingTimer);
+		}
+		else {
+			world.getDiver().draw(batch, diverAnimation, alpha);
 		}
 
+		world.getSharks().draw(batch, sharkAnimation, alpha);
+
 		drawScore();
 
 		batch.end();
@@ -240,6 +414,8 @@ public class GameScreen extends ScreenAdapter {
 	 * of the game and game AI.
 	 ******************************************************************/
 	private void drawDebug() {
+		Diver diver = world.getDiver();
+
 		batch.setProjectionMatrix(camera.projection);
 		batch.setTransformMatrix(camera.view);
 
@@ -248,126 +424,96 @@ public class GameScreen extends ScreenAdapter {
 
 		float sharkFollowRange = 1.3f * gameDifficulty;
 
-		String debugString = String.format(Locale.US, "FPS: %d\nPOS X: %d\nPOS Y: %d\nDifficulty: %.2fx\nShark Follow Range: %.2f",
-				Gdx.graphics.getFramesPerSecond(), (int) diver.getX(), (int) diver.getY(), (gameDifficulty/100), sharkFollowRange);
-		glyphLayout.setText(debugFont, debugString);
+		RuntimeStats runtimeStats = dodgyDiveGame.getRuntimeStats();
+		frameStats.compute();
+
+		StringBuilder debugString = debugText.edit();
+		debugString.append("FPS: ").append(Gdx.graphics.getFramesPerSecond());
+		HudText.appendFixed(debugString.append("\nFrame p50/p95/p99: "), frameStats.getP50(), 1);
+		HudText.appendFixed(debugString.append(" / "), frameStats.getP95(), 1);
+		HudText.appendFixed(debugString.append(" / "), frameStats.getP99(), 1).append(" ms");
+		HudText.appendFixed(debugString.append("\nUpdate: "), frameStats.getMeanUpdateMillis(), 2);
+		HudText.appendFixed(debugString.append(" ms  Draw: "), frameStats.getMeanDrawMillis(), 2).append(" ms");
+		debugString.append("\nRender calls: ").append(renderCalls);
+		debugString.append("  Max sprites: ").append(batch.maxSpritesInBatch);
+		debugString.append("\nTexture binds: ").append(textureBindings);
+		debugString.append("  Draw calls: ").append(drawCalls);
+		debugString.append("\nHeap: ").append(runtimeStats.getHeapUsed() / BYTES_PER_MB)
+				.append(" / ").append(runtimeStats.getHeapMax() / BYTES_PER_MB).append(" MB");
+
+		if(runtimeStats.getGcCount() >= 0) {
+			debugString.append("  GC: ").append(runtimeStats.getGcCount())
+					.append(" (").append(runtimeStats.getGcMillis()).append(" ms)");
+		}
+
+		debugString.append("\nPOS X: ").append((int) diver.getX());
+		debugString.append("\nPOS Y: ").append((int) diver.getY());
+		HudText.appendFixed(debugString.append("\nDifficulty: "), gameDifficulty/100, 2).append('x');
+		HudText.appendFixed(debugString.append("\nShark Follow Range: "), sharkFollowRange, 2);
+
+		if(bot != null) {
+			debugString.append("\nAutopilot: ").append(bot.getState().name())
+					.append(" to Y ").append((int) bot.getTargetY());
+		}
 
 		batch.begin();
-		debugFont.draw(batch, debugString, 12, WORLD_HEIGHT - 12);
+		debugText.draw(batch, 12, WORLD_HEIGHT - 12);
 		batch.end();
 
+		drawHistogram();
+
 		shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
 		diver.drawDebug(shapeRenderer);
 
-		for(Shark shark : sharks) {
-			shark.drawDebug(shapeRenderer);
-		}
+		world.getSharks().drawDebug(shapeRenderer);
 
 		shapeRenderer.end();
 	}
 
 	/******************************************************************
-	 * Draws the score onto the screen and centers it on the bottom of
-	 * the screen.
+	 * Draws the frame time histogram in the top right corner, one bar
+	 * per FrameStats bucket. Bars of frames that fit in 60 FPS are green,
+	 * those that fit in 30 FPS are yellow and the rest are red.
 	 ******************************************************************/
-	private void drawScore() {
-		String scoreString = String.format(Locale.US, "Hi-Score: %d | Score: %07d", PREFS.getInteger("hS1"), score);
+	private void drawHistogram() {
+		int tallest = 1;
 
-		glyphLayout.setText(scoreFont, scoreString);
-		scoreFont.draw(batch, scoreString, (WORLD_WIDTH / 2.0f) - (scoreString.length() * scoreFontSize / 3.6f), 50.0f);
-	}
-
-
-	/******************************************************************
-	 * Updates the position and state of all objects in the game.
-	 ******************************************************************/
-	private void update(float delta) {
-
-		diver.update(delta);
-		updateSharks(delta);
-
-		if(Gdx.input.isTouched()) {
-			diver.swimUp();
+		for(int i = 0; i < FrameStats.BUCKETS; i++) {
+			tallest = Math.max(tallest, frameStats.getBucket(i));
 		}
 
-		for(Shark shark : sharks) {
-			if(shark.hasCollidedWithDiver(diver)) {
-				killedByShark = true;
-				endGame();
-			}
-		}
+		float left = WORLD_WIDTH - 12 - FrameStats.BUCKETS * HISTOGRAM_BAR_WIDTH;
+		float bottom = WORLD_HEIGHT - 12 - HISTOGRAM_HEIGHT;
 
-		if(diver.getX() < 0 || diver.getY() < 0 ||
-				(diver.getX() + diver.getWidth()) > WORLD_WIDTH
-				|| (diver.getY() + diver.getHeight()) > WORLD_HEIGHT) {
-			endGame();
+		shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+
+		for(int i = 0; i < FrameStats.BUCKETS; i++) {
+			float bucketEnd = (i + 1) * FrameStats.BUCKET_MILLIS;
+			shapeRenderer.setColor(bucketEnd <= 1000f / 60 ? Color.GREEN : bucketEnd <= 1000f / 30 ? Color.YELLOW : Color.RED);
+			shapeRenderer.rect(left + i * HISTOGRAM_BAR_WIDTH, bottom, HISTOGRAM_BAR_WIDTH - 2,
+					HISTOGRAM_HEIGHT * frameStats.getBucket(i) / tallest);
 		}
-	}
 
-	/******************************************************************
-	 * Clears the screen to black, to prepare it to draw the next frame.
-	 ******************************************************************/
-	private void clearScreen() {
-		Gdx.gl.glClearColor(Color.BLACK.r, Color.BLACK.g, Color.BLACK.b, Color.BLACK.a);
-		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		shapeRenderer.end();
+		shapeRenderer.setColor(Color.WHITE);
 	}
 
 	/******************************************************************
-	 * Create a shark at the right edge of the screen at a random height
-	 * on the screen
+	 * Draws the score onto the screen and centers it on the bottom of
+	 * the screen. The hi-score is read once when the screen is shown.
 	 ******************************************************************/
-	private void createShark() {
-		Shark newShark = new Shark(sharkTexture);
-		float x = WORLD_WIDTH;
-		float y = new Random().nextFloat() * (WORLD_HEIGHT - newShark.getHeight());
-
-		newShark.setPosition(x, y);
-		sharks.add(newShark);
+	private void drawScore() {
+		scoreText.edit().append("Hi-Score: ").append(hiScore).append(" | Score: ").append(world.getScore(), 7);
+		scoreText.draw(batch, 0, 50.0f);
 	}
 
-	/******************************************************************
-	 * Updates and keeps track of all the sharks on the screen, making sure
-	 * that only a specified number of sharks are in the sharks list/screen.
-	 * The more sharks the less space between each shark.
-	 ******************************************************************/
-	private void updateSharks(float delta) {
-		for(Shark shark : sharks) {
-			shark.update(delta, new Random().nextFloat() * (new Random().nextInt(11) - 5), diver);
-		}
-
-		if(sharks.size > 0) {
-			Shark oldestShark = sharks.first();
-			if(oldestShark.getX() < -(oldestShark.getWidth())) {
-				sharks.removeValue(oldestShark, true);
-			}
-		}
-
-		if(sharks.size == 0) {
-			createShark();
-		}
-		else {
-			Shark shark = sharks.peek();
-			if(shark.getX() < WORLD_WIDTH - spaceBetweenSharks) {
-				createShark();
-			}
-		}
-	}
 
 	/******************************************************************
-	 * Makes sure scores are actually stored in the preferences file.
-	 * If there are no scores stored, then create a preferences file
-	 * and store 0's for the top 5 scores.
+	 * Clears the screen to black, to prepare it to draw the next frame.
 	 ******************************************************************/
-	public void loadScores() {
-		if(!PREFS.contains("hiScoresSet") && !PREFS.getBoolean("hiScoresSet")) {
-			PREFS.putBoolean("hiScoresSet", true);
-			PREFS.putInteger("hS1", 0);
-			PREFS.putInteger("hS2", 0);
-			PREFS.putInteger("hS3", 0);
-			PREFS.putInteger("hS4", 0);
-			PREFS.putInteger("hS5", 0);
-			PREFS.flush();
-		}
+	private void clearScreen() {
+		Gdx.gl.glClearColor(Color.BLACK.r, Color.BLACK.g, Color.BLACK.b, Color.BLACK.a);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 	}
 
 	/******************************************************************
@@ -375,16 +521,7 @@ public class GameScreen extends ScreenAdapter {
 	 * greater than and propagating those changes down the score "list."
 	 ******************************************************************/
 	public void updateScores(int newScore) {
-		int temp, store = newScore;
-
-		for(int i = 0; i <= 5; i++) {
-			if(store > PREFS.getInteger("hS" + (i + 1))) {
-				temp = PREFS.getInteger("hS" + (i + 1));
-				PREFS.putInteger("hS" + (i + 1), store);
-				store = temp;
-			}
-		}
-
-		PREFS.flush();
+		SettingsStore settings = dodgyDiveGame.getSettings();
+		settings.update(settings.get().withScore(newScore));
 	}
 }
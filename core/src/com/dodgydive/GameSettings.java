@@ -0,0 +1,173 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Immutable snapshot of the player's settings and hi-scores. Screens
+ * read their settings from a snapshot instead of going to the
+ * preferences file, and changes are made by creating a new snapshot
+ * with one of the with* methods and handing it to SettingsStore.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public final class GameSettings {
+	public static final int HI_SCORE_COUNT = 5;
+	public static final String DEFAULT_BACKGROUND = "background";
+	public static final String DEFAULT_DIVER_COSTUME = "diver";
+	public static final float DEFAULT_MUSIC_VOLUME = 0.5f;
+	public static final float DEFAULT_DIFFICULTY = 175f;
+	private final String background;
+	private final String diverCostume;
+	private final float musicVolume;
+	private final float difficulty;
+	private final boolean difficultySet;
+	private final int[] hiScores;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param background    String representing the atlas region of the game background
+	 * @param diverCostume  String representing the atlas region of the diver costume
+	 * @param musicVolume   float between 0 and 1 representing the music volume
+	 * @param difficulty    float representing the difficulty setting of the game
+	 * @param difficultySet boolean representing whether the player has set the difficulty
+	 * @param hiScores      int array holding the top scores, highest first
+	 ******************************************************************/
+	public GameSettings(String background, String diverCostume, float musicVolume, float difficulty,
+			boolean difficultySet, int[] hiScores) {
+		this.background = background;
+		this.diverCostume = diverCostume;
+		this.musicVolume = musicVolume;
+		this.difficulty = difficulty;
+		this.difficultySet = difficultySet;
+		this.hiScores = new int[HI_SCORE_COUNT];
+		System.arraycopy(hiScores, 0, this.hiScores, 0, Math.min(hiScores.length, HI_SCORE_COUNT));
+	}
+
+	/******************************************************************
+	 * Copy of these settings with a different game background.
+	 *
+	 * @param background String representing the atlas region of the background
+	 * @return GameSettings with the new background
+	 ******************************************************************/
+	public GameSettings withBackground(String background) {
+		return new GameSettings(background, diverCostume, musicVolume, difficulty, difficultySet, hiScores);
+	}
+
+	/******************************************************************
+	 * Copy of these settings with a different diver costume.
+	 *
+	 * @param diverCostume  String representing the atlas region of the costume
+	 * @return GameSettings with the new costume
+	 ******************************************************************/
+	public GameSettings withDiverCostume(String diverCostume) {
+		return new GameSettings(background, diverCostume, musicVolume, difficulty, difficultySet, hiScores);
+	}
+
+	/******************************************************************
+	 * Copy of these settings with a different music volume.
+	 *
+	 * @param musicVolume float between 0 and 1 representing the volume
+	 * @return GameSettings with the new volume
+	 ******************************************************************/
+	public GameSettings withMusicVolume(float musicVolume) {
+		return new GameSettings(background, diverCostume, musicVolume, difficulty, difficultySet, hiScores);
+	}
+
+	/******************************************************************
+	 * Copy of these settings with a different difficulty.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 * @return GameSettings with the new difficulty
+	 ******************************************************************/
+	public GameSettings withDifficulty(float difficulty) {
+		return new GameSettings(background, diverCostume, musicVolume, difficulty, true, hiScores);
+	}
+
+	/******************************************************************
+	 * Copy of these settings with a new score placed in the hi-scores,
+	 * pushing the lower scores down. Returns this snapshot if the score
+	 * isn't high enough to make the list.
+	 *
+	 * @param score int representing the score of a finished game
+	 * @return GameSettings with the updated hi-scores
+	 ******************************************************************/
+	public GameSettings withScore(int score) {
+		if(score <= hiScores[HI_SCORE_COUNT - 1]) {
+			return this;
+		}
+
+		int[] scores = new int[HI_SCORE_COUNT];
+		int store = score;
+
+		for(int i = 0; i < HI_SCORE_COUNT; i++) {
+			if(store > hiScores[i]) {
+				scores[i] = store;
+				store = hiScores[i];
+			}
+			else {
+				scores[i] = hiScores[i];
+			}
+		}
+
+		return new GameSettings(background, diverCostume, musicVolume, difficulty, difficultySet, scores);
+	}
+
+	/******************************************************************
+	 * Getter method for the atlas region of the game background.
+	 *
+	 * @return String representing the name of the background
+	 ******************************************************************/
+	public String getBackground() {
+		return this.background;
+	}
+
+	/******************************************************************
+	 * Getter method for the atlas region of the diver costume.
+	 *
+	 * @return String representing the name of the costume
+	 ******************************************************************/
+	public String getDiverCostume() {
+		return this.diverCostume;
+	}
+
+	/******************************************************************
+	 * Getter method for the music volume.
+	 *
+	 * @return float between 0 and 1 representing the volume
+	 ******************************************************************/
+	public float getMusicVolume() {
+		return this.musicVolume;
+	}
+
+	/******************************************************************
+	 * Getter method for the difficulty.
+	 *
+	 * @return float representing the difficulty setting of the game
+	 ******************************************************************/
+	public float getDifficulty() {
+		return this.difficulty;
+	}
+
+	/******************************************************************
+	 * Whether the player has ever set the difficulty. Until then the
+	 * game is played at DEFAULT_DIFFICULTY but earns no difficulty
+	 * bonus.
+	 *
+	 * @return boolean representing whether the difficulty has been set
+	 ******************************************************************/
+	public boolean isDifficultySet() {
+		return this.difficultySet;
+	}
+
+	/******************************************************************
+	 * Getter method for one of the hi-scores.
+	 *
+	 * @param rank int between 0 (highest) and HI_SCORE_COUNT - 1
+	 * @return int representing the score at that rank
+	 ******************************************************************/
+	public int getHiScore(int rank) {
+		return this.hiScores[rank];
+	}
+}
@@ -0,0 +1,337 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.utils.Array;
+
+/******************************************************************
+ * Class that holds and updates the state of a single game session
+ * (the diver, the sharks and the score). It doesn't depend on a
+ * graphics context, so it can be stepped by the GameScreen or run
+ * on its own without a window.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class GameWorld {
+	public static final float STEP = 1 / 120f;
+	private static final int MAX_STEPS_PER_FRAME = 8;
+	private final float worldWidth;
+	private final float worldHeight;
+	private final float difficulty;
+	private final Diver diver;
+	private final SharkStore sharks;
+	private final GameRandom random;
+	private final Array<ScoringRule> scoringRules = new Array<ScoringRule>();
+	private GameInput input;
+	private int sharksOnScreen = 10;
+	private float spaceBetweenSharks;
+	private float accumulator = 0;
+	private int score = 0;
+	private boolean over = false;
+	private boolean killedByShark = false;
+	private boolean invulnerable = false;
+	private boolean difficultyBonus = true;
+
+	/******************************************************************
+	 * Constructor method for the class. Sets up a new game session with
+	 * the diver placed at its starting position and a random seed.
+	 *
+	 * @param worldWidth  float representing the width of the playable area
+	 * @param worldHeight float representing the height of the playable area
+	 * @param difficulty  float representing the difficulty setting of the game
+	 * @param input       GameInput that decides when the diver swims up
+	 ******************************************************************/
+	public GameWorld(float worldWidth, float worldHeight, float difficulty, GameInput input) {
+		this(worldWidth, worldHeight, difficulty, input, new PooledSharkStore(difficulty), new GameRandom());
+	}
+
+	/******************************************************************
+	 * Constructor method for the class. Sets up a new game session that
+	 * keeps its sharks in the given store, e.g. a PackedSharkStore when
+	 * there will be hundreds of sharks on screen, and draws all its random
+	 * numbers from the given GameRandom. Two sessions with the same seed,
+	 * settings and input play out exactly the same.
+	 *
+	 * <p>Sessions are scored by survival time and by near misses and
+	 * combos of them.
+	 *
+	 * @param worldWidth  float representing the width of the playable area
+	 * @param worldHeight float representing the height of the playable area
+	 * @param difficulty  float representing the difficulty setting of the game
+	 * @param input       GameInput that decides when the diver swims up
+	 * @param sharks      SharkStore that will hold the sharks of the session
+	 * @param random      GameRandom that the session draws random numbers from
+	 ******************************************************************/
+	public GameWorld(float worldWidth, float worldHeight, float difficulty, GameInput input,
+			SharkStore sharks, GameRandom random) {
+		this.sharks = sharks;
+		this.random = random;
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+		this.difficulty = difficulty;
+		this.input = input;
+		this.spaceBetweenSharks = worldWidth / sharksOnScreen;
+
+		diver = new Diver();
+		diver.setPosition(worldWidth / 4, worldHeight / 2);
+
+		scoringRules.add(new TimeScoringRule(difficulty));
+		scoringRules.add(new NearMissScoringRule(difficulty));
+	}
+
+	/******************************************************************
+	 * Advances the game by the time passed since the last frame. The
+	 * game is always simulated in fixed steps of STEP seconds so it plays
+	 * the same at any frame rate; left over time carries over to the next
+	 * frame. If a frame took too long only MAX_STEPS_PER_FRAME steps are
+	 * run and the rest of the time is dropped, so a slow frame can't make
+	 * the following ones even slower.
+	 *
+	 * @param delta float representing the time passed since the last frame
+	 ******************************************************************/
+	public void update(float delta) {
+		accumulator += delta;
+
+		int steps = 0;
+		while(accumulator >= STEP && !over) {
+			if(steps == MAX_STEPS_PER_FRAME) {
+				accumulator %= STEP;
+				break;
+			}
+
+			step();
+			accumulator -= STEP;
+			steps++;
+		}
+	}
+
+	/******************************************************************
+	 * Updates the position and state of all objects in the game by a
+	 * single fixed step.
+	 ******************************************************************/
+	public void step() {
+		if(over) {
+			return;
+		}
+
+		diver.update(STEP);
+		updateSharks(STEP);
+
+		if(input.isTouched()) {
+			diver.swimUp(STEP);
+		}
+
+		if(sharks.hasCollidedWithDiver(diver) && !invulnerable) {
+			killedByShark = true;
+			over = true;
+			return;
+		}
+
+		if(!invulnerable && (diver.getX() < 0 || diver.getY() < 0 ||
+				(diver.getX() + diver.getWidth()) > worldWidth
+				|| (diver.getY() + diver.getHeight()) > worldHeight)) {
+			over = true;
+			return;
+		}
+
+		for(int i = 0; i < scoringRules.size; i++) {
+			score += scoringRules.get(i).score(this, STEP);
+		}
+	}
+
+	/******************************************************************
+	 * Create a shark at a random height.
+	 *
+	 * @param x float representing the x-position of the new shark
+	 ******************************************************************/
+	private void createShark(float x) {
+		float y = random.nextSpawnHeight(worldHeight - Shark.TILE_HEIGHT);
+
+		sharks.add(x, y);
+	}
+
+	/******************************************************************
+	 * Updates and keeps track of all the sharks in the world, making sure
+	 * that only a specified number of sharks are in the sharks list.
+	 * The more sharks the less space between each shark.
+	 *
+	 * <p>New sharks are placed exactly spaceBetweenSharks after the
+	 * newest one, so the world holds the number of sharks asked for no
+	 * matter how far they swim in a step. When the sharks are closer
+	 * together than that, more than one leaves and more than one is due
+	 * in a single step, so every shark that fits is added.
+	 ******************************************************************/
+	private void updateSharks(float delta) {
+		sharks.update(delta, diver, random);
+
+		while(sharks.size() > 0 && sharks.getOldestX() < -Shark.TILE_WIDTH) {
+			sharks.removeOldest();
+		}
+
+		if(sharks.size() == 0) {
+			createShark(worldWidth);
+		}
+		else {
+			float x = sharks.getNewestX() + spaceBetweenSharks;
+
+			while(x <= worldWidth) {
+				createShark(x);
+				x = sharks.getNewestX() + spaceBetweenSharks;
+			}
+		}
+	}
+
+	/******************************************************************
+	 * Sets how many sharks share the width of the world at once.
+	 *
+	 * @param sharksOnScreen int representing the number of sharks on screen
+	 ******************************************************************/
+	public void setSharksOnScreen(int sharksOnScreen) {
+		this.sharksOnScreen = sharksOnScreen;
+		this.spaceBetweenSharks = worldWidth / sharksOnScreen;
+	}
+
+	/******************************************************************
+	 * Getter method for how many sharks share the width of the world.
+	 *
+	 * @return int representing the number of sharks on screen
+	 ******************************************************************/
+	public int getSharksOnScreen() {
+		return this.sharksOnScreen;
+	}
+
+	/******************************************************************
+	 * Sets whether the session can end. An invulnerable diver can't be
+	 * eaten or leave the screen, so the session runs for as long as it's
+	 * stepped, e.g. for stress tests. Collisions are still checked every
+	 * step, so the work done per step doesn't change.
+	 *
+	 * @param invulnerable boolean representing whether the session never ends
+	 ******************************************************************/
+	public void setInvulnerable(boolean invulnerable) {
+		this.invulnerable = invulnerable;
+	}
+
+	/******************************************************************
+	 * Sets whether the session earns the bonus points of its difficulty
+	 * tier every second. Games played before the player has set the
+	 * difficulty don't, even though the sharks swim at the default
+	 * difficulty.
+	 *
+	 * @param difficultyBonus boolean representing whether the bonus is given
+	 ******************************************************************/
+	public void setDifficultyBonus(boolean difficultyBonus) {
+		this.difficultyBonus = difficultyBonus;
+	}
+
+	/******************************************************************
+	 * Whether the session earns the bonus points of its difficulty tier.
+	 *
+	 * @return boolean representing whether the bonus is given
+	 ******************************************************************/
+	public boolean hasDifficultyBonus() {
+		return this.difficultyBonus;
+	}
+
+	/******************************************************************
+	 * Sets the input that decides when the diver swims up.
+	 *
+	 * @param input GameInput to poll on every update
+	 ******************************************************************/
+	public void setInput(GameInput input) {
+		this.input = input;
+	}
+
+	/******************************************************************
+	 * How far the current frame is between the last simulation step and
+	 * the next one, used to blend the drawn positions.
+	 *
+	 * @return float between 0 and 1
+	 ******************************************************************/
+	public float getAlpha() {
+		return accumulator / STEP;
+	}
+
+	/******************************************************************
+	 * Getter method for the random numbers of the session.
+	 *
+	 * @return GameRandom holding the seed of the session
+	 ******************************************************************/
+	public GameRandom getRandom() {
+		return this.random;
+	}
+
+	/******************************************************************
+	 * Getter method for the diver.
+	 *
+	 * @return Diver controlled by the player
+	 ******************************************************************/
+	public Diver getDiver() {
+		return this.diver;
+	}
+
+	/******************************************************************
+	 * Getter method for the sharks currently in the world.
+	 *
+	 * @return SharkStore holding the sharks, oldest first
+	 ******************************************************************/
+	public SharkStore getSharks() {
+		return this.sharks;
+	}
+
+	/******************************************************************
+	 * Getter method for the current score.
+	 *
+	 * @return int representing the score of the session
+	 ******************************************************************/
+	public int getScore() {
+		return this.score;
+	}
+
+	/******************************************************************
+	 * Getter method for the difficulty of the session.
+	 *
+	 * @return float representing the difficulty setting
+	 ******************************************************************/
+	public float getDifficulty() {
+		return this.difficulty;
+	}
+
+	/******************************************************************
+	 * Getter method for the width of the world.
+	 *
+	 * @return float representing the width of the playable area
+	 ******************************************************************/
+	public float getWidth() {
+		return this.worldWidth;
+	}
+
+	/******************************************************************
+	 * Getter method for the height of the world.
+	 *
+	 * @return float representing the height of the playable area
+	 ******************************************************************/
+	public float getHeight() {
+		return this.worldHeight;
+	}
+
+	/******************************************************************
+	 * Whether the session has ended, either by hitting a shark or by
+	 * leaving the screen.
+	 *
+	 * @return boolean representing whether the game is over
+	 ******************************************************************/
+	public boolean isOver() {
+		return this.over;
+	}
+
+	/******************************************************************
+	 * Whether the session ended because the diver hit a shark.
+	 *
+	 * @return boolean representing whether a shark caught the diver
+	 ******************************************************************/
+	public boolean isKilledByShark() {
+		return this.killedByShark;
+	}
+}
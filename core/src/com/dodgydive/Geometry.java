@@ -0,0 +1,79 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Overlap tests on plain floats for the shapes the game uses. They
+ * give the same results as Intersector's Rectangle and Circle tests,
+ * but don't need a Rectangle or Circle object, so the collision and
+ * follow range checks don't create any garbage.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public final class Geometry {
+
+	private Geometry() {
+	}
+
+	/******************************************************************
+	 * Checks whether two axis-aligned rectangles overlap. Rectangles that
+	 * only touch along an edge don't count as overlapping.
+	 *
+	 * @param ax float representing the x-position of the first rectangle
+	 * @param ay float representing the y-position of the first rectangle
+	 * @param aw float representing the width of the first rectangle
+	 * @param ah float representing the height of the first rectangle
+	 * @param bx float representing the x-position of the second rectangle
+	 * @param by float representing the y-position of the second rectangle
+	 * @param bw float representing the width of the second rectangle
+	 * @param bh float representing the height of the second rectangle
+	 * @return boolean representing whether the rectangles overlap
+	 ******************************************************************/
+	public static boolean rectsOverlap(float ax, float ay, float aw, float ah,
+			float bx, float by, float bw, float bh) {
+		return ax < bx + bw && ax + aw > bx && ay < by + bh && ay + ah > by;
+	}
+
+	/******************************************************************
+	 * Checks whether a circle overlaps an axis-aligned rectangle. Circles
+	 * whose bounding box misses the rectangle are rejected before any
+	 * distance is computed.
+	 *
+	 * @param cx     float representing the x-position of the circle's center
+	 * @param cy     float representing the y-position of the circle's center
+	 * @param radius float representing the radius of the circle
+	 * @param rx     float representing the x-position of the rectangle
+	 * @param ry     float representing the y-position of the rectangle
+	 * @param rw     float representing the width of the rectangle
+	 * @param rh     float representing the height of the rectangle
+	 * @return boolean representing whether the circle and rectangle overlap
+	 ******************************************************************/
+	public static boolean circleOverlapsRect(float cx, float cy, float radius,
+			float rx, float ry, float rw, float rh) {
+		if(cx + radius < rx || cx - radius > rx + rw || cy + radius < ry || cy - radius > ry + rh) {
+			return false;
+		}
+
+		float closestX = cx < rx ? rx : (cx > rx + rw ? rx + rw : cx);
+		float closestY = cy < ry ? ry : (cy > ry + rh ? ry + rh : cy);
+
+		return distanceSquared(cx, cy, closestX, closestY) < radius * radius;
+	}
+
+	/******************************************************************
+	 * Squared distance between two points, for comparing distances
+	 * without a square root.
+	 *
+	 * @param x1 float representing the x-position of the first point
+	 * @param y1 float representing the y-position of the first point
+	 * @param x2 float representing the x-position of the second point
+	 * @param y2 float representing the y-position of the second point
+	 * @return float representing the squared distance between the points
+	 ******************************************************************/
+	public static float distanceSquared(float x1, float y1, float x2, float y2) {
+		float dx = x2 - x1;
+		float dy = y2 - y1;
+		return dx * dx + dy * dy;
+	}
+}
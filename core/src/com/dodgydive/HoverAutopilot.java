@@ -0,0 +1,30 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Input that keeps the diver hovering around the middle of the world:
+ * it swims up whenever the diver drops below the middle. It doesn't
+ * dodge sharks, so it's meant for simulations and stress tests, where
+ * it keeps an invulnerable diver on screen.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class HoverAutopilot implements GameInput {
+	private final GameWorld world;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param world GameWorld whose diver is kept hovering
+	 ******************************************************************/
+	public HoverAutopilot(GameWorld world) {
+		this.world = world;
+	}
+
+	@Override
+	public boolean isTouched() {
+		return world.getDiver().getY() < world.getHeight() / 2;
+	}
+}
@@ -0,0 +1,103 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/******************************************************************
+ * Class that draws a line (or a few lines) of HUD text that changes
+ * while the game is played, like the score. The text is written into
+ * a reusable StringBuilder every frame, but it's only laid out again
+ * when it differs from what was drawn last frame, so drawing the same
+ * values over and over doesn't create any garbage.
+ *
+ * <p>Usage: call edit(), append the text to the returned StringBuilder,
+ * then call draw().
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class HudText {
+	private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000};
+	private final BitmapFont font;
+	private final GlyphLayout glyphLayout = new GlyphLayout();
+	private final StringBuilder shownText = new StringBuilder(64);
+	private final StringBuilder nextText = new StringBuilder(64);
+	private final float targetWidth;
+	private final int halign;
+	private boolean laidOut = false;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param font        BitmapFont the text is drawn with
+	 * @param targetWidth float representing the width the text is aligned in
+	 * @param halign      int representing the alignment of the text, one of
+	 *                    Align.left, Align.center or Align.right
+	 ******************************************************************/
+	public HudText(BitmapFont font, float targetWidth, int halign) {
+		this.font = font;
+		this.targetWidth = targetWidth;
+		this.halign = halign;
+	}
+
+	/******************************************************************
+	 * Clears the text to be drawn next and returns it so it can be
+	 * written again.
+	 *
+	 * @return StringBuilder to append the new text to
+	 ******************************************************************/
+	public StringBuilder edit() {
+		nextText.setLength(0);
+		return nextText;
+	}
+
+	/******************************************************************
+	 * Draws the text written since the last call to edit(). The text is
+	 * only laid out again if it changed.
+	 *
+	 * @param batch Batch that will draw the text onto the screen
+	 * @param x     float representing the x-position of the text area
+	 * @param y     float representing the y-position of the top of the text
+	 ******************************************************************/
+	public void draw(Batch batch, float x, float y) {
+		if(!laidOut || !nextText.equals(shownText)) {
+			shownText.setLength(0);
+			shownText.append(nextText);
+			glyphLayout.setText(font, shownText, font.getColor(), targetWidth, halign, false);
+			laidOut = true;
+		}
+
+		font.draw(batch, glyphLayout, x, y);
+	}
+
+	/******************************************************************
+	 * Appends a float with a fixed number of decimals (up to 4) without
+	 * going through String.format.
+	 *
+	 * @param text     StringBuilder to append to
+	 * @param value    float to be appended
+	 * @param decimals int representing the number of decimals to show
+	 * @return StringBuilder that was appended to
+	 ******************************************************************/
+	public static StringBuilder appendFixed(StringBuilder text, float value, int decimals) {
+		int scale = POWERS_OF_TEN[decimals];
+		long scaled = Math.round(Math.abs((double) value) * scale);
+
+		if(value < 0 && scaled != 0) {
+			text.append('-');
+		}
+
+		text.append(scaled / scale);
+
+		if(decimals > 0) {
+			text.append('.');
+			text.append((int) (scaled % scale), decimals);
+		}
+
+		return text;
+	}
+}
@@ -0,0 +1,107 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+
+/******************************************************************
+ * Class that constructs the loading screen, a progress bar shown while
+ * the assets a screen needs are still loading. It doesn't use any
+ * assets itself so it can be drawn on the very first frame.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class LoadingScreen extends ScreenAdapter {
+	private static final float BAR_WIDTH = 0.6f;
+	private static final float BAR_HEIGHT = 0.03f;
+	private final GameAssets assets;
+	private final Matrix4 projection = new Matrix4();
+	private ShapeRenderer shapeRenderer;
+	private boolean startupOnly;
+	private Runnable whenLoaded;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param assets GameAssets whose loading progress is shown
+	 ******************************************************************/
+	public LoadingScreen(GameAssets assets) {
+		this.assets = assets;
+	}
+
+	/******************************************************************
+	 * Sets what the screen waits for and what happens once it's loaded.
+	 *
+	 * @param startupOnly boolean representing whether only the start
+	 *                    screen's assets are needed, instead of all of them
+	 * @param whenLoaded  Runnable that is run on the render thread once
+	 *                    the assets are loaded, usually to change screens
+	 ******************************************************************/
+	public void waitFor(boolean startupOnly, Runnable whenLoaded) {
+		this.startupOnly = startupOnly;
+		this.whenLoaded = whenLoaded;
+	}
+
+	/******************************************************************
+	 * Creates the shape renderer the first time the screen is shown.
+	 ******************************************************************/
+	@Override
+	public void show() {
+		super.show();
+
+		if(shapeRenderer == null) {
+			shapeRenderer = new ShapeRenderer();
+		}
+	}
+
+	/******************************************************************
+	 * Draws the progress bar, and moves on once the assets are loaded.
+	 * The assets themselves are loaded by DodgyDiveGame every frame.
+	 ******************************************************************/
+	@Override
+	public void render(float delta) {
+		super.render(delta);
+
+		if(startupOnly ? assets.isStartupLoaded() : assets.isFinished()) {
+			Runnable next = whenLoaded;
+			whenLoaded = null;
+			next.run();
+			return;
+		}
+
+		int width = Gdx.graphics.getWidth();
+		int height = Gdx.graphics.getHeight();
+		float barX = width * (1 - BAR_WIDTH) / 2;
+		float barY = height * 0.2f;
+
+		Gdx.gl.glClearColor(Color.BLACK.r, Color.BLACK.g, Color.BLACK.b, Color.BLACK.a);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		shapeRenderer.setProjectionMatrix(projection.setToOrtho2D(0, 0, width, height));
+		shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+		shapeRenderer.setColor(Color.DARK_GRAY);
+		shapeRenderer.rect(barX, barY, width * BAR_WIDTH, height * BAR_HEIGHT);
+		shapeRenderer.setColor(Color.WHITE);
+		shapeRenderer.rect(barX, barY, width * BAR_WIDTH * assets.getProgress(), height * BAR_HEIGHT);
+		shapeRenderer.end();
+	}
+
+	/******************************************************************
+	 * Cleans up all of the disposable resources when the screen is no
+	 * longer in use.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		super.dispose();
+
+		if(shapeRenderer != null) {
+			shapeRenderer.dispose();
+		}
+	}
+}
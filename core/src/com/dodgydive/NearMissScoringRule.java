@@ -0,0 +1,56 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Scoring rule that gives points when a shark swims past the diver
+ * without hitting it but within NEAR_MISS_MARGIN pixels above or
+ * below it. Near misses that follow each other within COMBO_WINDOW
+ * seconds build up a combo, and each one is worth NEAR_MISS_POINTS
+ * times the length of the combo.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class NearMissScoringRule implements ScoringRule {
+	private static final float NEAR_MISS_MARGIN = 40f;
+	private static final int NEAR_MISS_POINTS = 5;
+	private static final float COMBO_WINDOW = 1.5f;
+	private final float swimSpeed;
+	private float timeSinceNearMiss = Float.MAX_VALUE;
+	private int combo = 0;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 ******************************************************************/
+	public NearMissScoringRule(float difficulty) {
+		this.swimSpeed = Shark.swimSpeed(difficulty);
+	}
+
+	@Override
+	public int score(GameWorld world, float delta) {
+		Diver diver = world.getDiver();
+		float diverBottom = diver.getCollisionRect().y;
+		float diverTop = diverBottom + diver.getCollisionRect().height;
+		int points = 0;
+
+		timeSinceNearMiss += delta;
+
+		int nearMisses = world.getSharks().countCrossing(diver.getCollisionRect().x, swimSpeed * delta,
+				diverBottom - NEAR_MISS_MARGIN, diverTop + NEAR_MISS_MARGIN);
+
+		for(int i = 0; i < nearMisses; i++) {
+			combo = timeSinceNearMiss <= COMBO_WINDOW ? combo + 1 : 1;
+			timeSinceNearMiss = 0;
+			points += NEAR_MISS_POINTS * combo;
+		}
+
+		if(timeSinceNearMiss > COMBO_WINDOW) {
+			combo = 0;
+		}
+
+		return points;
+	}
+}
@@ -0,0 +1,289 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/******************************************************************
+ * Shark store that keeps the state of every shark in parallel float
+ * arrays instead of Shark objects, meant for modes with hundreds of
+ * sharks on screen. All the sharks are updated by a single loop that
+ * walks the arrays in order, and nothing is allocated once the arrays
+ * have grown to fit the sharks.
+ *
+ * <p>Sharks live between the indexes start (oldest) and end (newest).
+ * Removing the oldest shark only moves start forward. When there's no
+ * room left at the end, the live sharks are moved back to index 0 if
+ * at least half of the arrays is free at the front, and the arrays are
+ * doubled otherwise. Either way at least half of the arrays is free at
+ * the end afterwards, so moving the sharks costs O(1) per spawn on
+ * average however full the store is kept.
+ *
+ * <p>Because the sharks are sorted by x-position, only the sharks whose
+ * x-position falls inside the diver's interaction window (found with a
+ * binary search) are checked for follow range and collisions.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class PackedSharkStore implements SharkStore {
+	private final float swimSpeed;
+	private final float followRange;
+	private final float followSpeed;
+	private float[] x;
+	private float[] y;
+	private float[] prevX;
+	private float[] prevY;
+	private float[] prevRand;
+	private boolean[] hasPrevRand;
+	private float[] animationTimer;
+	private int start = 0;
+	private int end = 0;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 * @param capacity   int representing how many sharks to make room for
+	 ******************************************************************/
+	public PackedSharkStore(float difficulty, int capacity) {
+		swimSpeed = Shark.swimSpeed(difficulty);
+		followRange = Shark.followRange(swimSpeed);
+		followSpeed = Shark.followSpeed(swimSpeed);
+		allocate(Math.max(capacity, 16));
+	}
+
+	@Override
+	public void update(float delta, Diver diver, GameRandom random) {
+		float diverX = diver.getX();
+		float diverY = diver.getY();
+		float dx = swimSpeed * delta;
+		float drift = Shark.DRIFT_RATE * delta;
+		int first = firstSharkAtOrAfter(Shark.minInteractionX(diver));
+		float maxX = Shark.maxInteractionX(diver, followRange);
+
+		for(int i = start; i < end; i++) {
+			float rand = random.nextDrift();
+
+			if(!hasPrevRand[i]) {
+				prevRand[i] = rand;
+				hasPrevRand[i] = true;
+			}
+
+			prevRand[i] = Shark.flipDrift(prevRand[i], rand, random);
+
+			float sharkX = x[i];
+			float sharkY = y[i];
+			float swimDirection = 0;
+			float centerX = sharkX + (Shark.COLLISION_WIDTH / 2);
+
+			if(i >= first && sharkX <= maxX && centerX > diverX) {
+				if(diver.overlapsCircle(centerX, sharkY + (Shark.COLLISION_HEIGHT / 2), followRange)) {
+					if(diverY > sharkY) {
+						swimDirection = followSpeed;
+					}
+					else if(diverY < sharkY) {
+						swimDirection = -followSpeed;
+					}
+				}
+			}
+
+			animationTimer[i] += delta;
+			prevX[i] = sharkX;
+			prevY[i] = sharkY;
+			x[i] = sharkX - dx;
+			y[i] = sharkY + (swimDirection + rand) * drift;
+		}
+	}
+
+	@Override
+	public void add(float sharkX, float sharkY) {
+		if(end == x.length) {
+			if(start >= x.length / 2) {
+				compact();
+			}
+			else {
+				grow();
+			}
+		}
+
+		x[end] = sharkX;
+		y[end] = sharkY;
+		prevX[end] = sharkX;
+		prevY[end] = sharkY;
+		prevRand[end] = 0;
+		hasPrevRand[end] = false;
+		animationTimer[end] = 0;
+		end++;
+	}
+
+	@Override
+	public void removeOldest() {
+		start++;
+
+		if(start == end) {
+			start = 0;
+			end = 0;
+		}
+	}
+
+	@Override
+	public int size() {
+		return end - start;
+	}
+
+	@Override
+	public float getOldestX() {
+		return x[start];
+	}
+
+	@Override
+	public float getNewestX() {
+		return x[end - 1];
+	}
+
+	@Override
+	public float getX(int index) {
+		return x[start + index];
+	}
+
+	@Override
+	public float getY(int index) {
+		return y[start + index];
+	}
+
+	@Override
+	public boolean hasCollidedWithDiver(Diver diver) {
+		float maxX = diver.getCollisionRect().x + diver.getCollisionRect().width;
+
+		for(int i = firstSharkAtOrAfter(Shark.minInteractionX(diver)); i < end; i++) {
+			if(x[i] >= maxX) {
+				break;
+			}
+
+			if(diver.overlapsRect(x[i], y[i], Shark.COLLISION_WIDTH, Shark.COLLISION_HEIGHT)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public int countCrossing(float lineX, float distance, float minY, float maxY) {
+		int count = 0;
+		float maxX = lineX - Shark.COLLISION_WIDTH;
+
+		for(int i = firstSharkAtOrAfter(maxX - distance); i < end; i++) {
+			if(x[i] >= maxX) {
+				break;
+			}
+
+			if(y[i] < maxY && y[i] + Shark.COLLISION_HEIGHT > minY) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public void draw(SpriteBatch batch, Animation swimAnimation, float alpha) {
+		for(int i = start; i < end; i++) {
+			TextureRegion sharkTexture = swimAnimation.getKeyFrame(animationTimer[i]);
+
+			float textureX = prevX[i] + (x[i] - prevX[i]) * alpha - Shark.TEXTURE_OFFSET_X;
+			float textureY = prevY[i] + (y[i] - prevY[i]) * alpha - Shark.TEXTURE_OFFSET_Y;
+
+			batch.draw(sharkTexture, textureX, textureY);
+		}
+	}
+
+	@Override
+	public void drawDebug(ShapeRenderer shapeRenderer) {
+		for(int i = start; i < end; i++) {
+			shapeRenderer.rect(x[i], y[i], Shark.COLLISION_WIDTH, Shark.COLLISION_HEIGHT);
+			shapeRenderer.arc(x[i] + (Shark.COLLISION_WIDTH / 2), y[i] + (Shark.COLLISION_HEIGHT / 2), followRange, 90, 180);
+		}
+	}
+
+	/******************************************************************
+	 * Binary searches the sharks for the first one whose x-position is
+	 * at least minX.
+	 *
+	 * @param minX float representing the smallest x-position to look for
+	 * @return int representing the index of the shark, or end if they
+	 *         are all further left
+	 ******************************************************************/
+	private int firstSharkAtOrAfter(float minX) {
+		int low = start;
+		int high = end;
+
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+
+			if(x[mid] < minX) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	/******************************************************************
+	 * Moves the live sharks back to the front of the arrays.
+	 ******************************************************************/
+	private void compact() {
+		int count = end - start;
+		System.arraycopy(x, start, x, 0, count);
+		System.arraycopy(y, start, y, 0, count);
+		System.arraycopy(prevX, start, prevX, 0, count);
+		System.arraycopy(prevY, start, prevY, 0, count);
+		System.arraycopy(prevRand, start, prevRand, 0, count);
+		System.arraycopy(hasPrevRand, start, hasPrevRand, 0, count);
+		System.arraycopy(animationTimer, start, animationTimer, 0, count);
+		start = 0;
+		end = count;
+	}
+
+	/******************************************************************
+	 * Doubles the size of the arrays, moving the live sharks back to the
+	 * front of them.
+	 ******************************************************************/
+	private void grow() {
+		float[] oldX = x, oldY = y, oldPrevX = prevX, oldPrevY = prevY, oldPrevRand = prevRand, oldTimer = animationTimer;
+		boolean[] oldHasPrevRand = hasPrevRand;
+		int count = end - start;
+
+		allocate(x.length * 2);
+
+		System.arraycopy(oldX, start, x, 0, count);
+		System.arraycopy(oldY, start, y, 0, count);
+		System.arraycopy(oldPrevX, start, prevX, 0, count);
+		System.arraycopy(oldPrevY, start, prevY, 0, count);
+		System.arraycopy(oldPrevRand, start, prevRand, 0, count);
+		System.arraycopy(oldHasPrevRand, start, hasPrevRand, 0, count);
+		System.arraycopy(oldTimer, start, animationTimer, 0, count);
+		start = 0;
+		end = count;
+	}
+
+	/******************************************************************
+	 * Creates empty arrays that hold the given number of sharks.
+	 ******************************************************************/
+	private void allocate(int capacity) {
+		x = new float[capacity];
+		y = new float[capacity];
+		prevX = new float[capacity];
+		prevY = new float[capacity];
+		prevRand = new float[capacity];
+		hasPrevRand = new boolean[capacity];
+		animationTimer = new float[capacity];
+	}
+}
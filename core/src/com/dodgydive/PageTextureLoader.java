@@ -0,0 +1,107 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/******************************************************************
+ * Texture loader that can start decoding textures before the
+ * AssetManager gets to them. The AssetManager loads one asset at a
+ * time, so on its own the atlas pages are decoded one after another.
+ * Pages handed to decodeAhead() are decoded into pixmaps on a pool of
+ * worker threads right away, all at once. When the AssetManager gets
+ * to a page, the loader waits for its pixmap instead of decoding the
+ * file again, and only the upload to the GPU is left for the render
+ * thread.
+ *
+ * <p>Textures that weren't decoded ahead (like the debug font's page)
+ * are loaded the same way TextureLoader always loads them.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class PageTextureLoader extends TextureLoader implements Disposable {
+	private final AsyncExecutor decoders;
+	private final ObjectMap<String, AsyncResult<TextureData>> decoding = new ObjectMap<String, AsyncResult<TextureData>>();
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param resolver      FileHandleResolver used to find the textures
+	 * @param decodeThreads int representing how many pages can be
+	 *                      decoded at the same time
+	 ******************************************************************/
+	public PageTextureLoader(FileHandleResolver resolver, int decodeThreads) {
+		super(resolver);
+		decoders = new AsyncExecutor(Math.max(1, decodeThreads));
+	}
+
+	/******************************************************************
+	 * Starts decoding a texture on one of the worker threads. The same
+	 * file name must then be queued in the AssetManager as a Texture.
+	 *
+	 * @param fileName   String representing the name the texture is queued under
+	 * @param file       FileHandle of the image to decode
+	 * @param format     Pixmap.Format to decode the image into, or null
+	 *                   to keep the image's own format
+	 * @param genMipMaps boolean representing whether mipmaps will be generated
+	 ******************************************************************/
+	public void decodeAhead(String fileName, final FileHandle file, final Pixmap.Format format, final boolean genMipMaps) {
+		AsyncResult<TextureData> result = decoders.submit(new AsyncTask<TextureData>() {
+			@Override
+			public TextureData call() {
+				TextureData data = TextureData.Factory.loadFromFile(file, format, genMipMaps);
+
+				if(!data.isPrepared()) {
+					data.prepare();
+				}
+
+				return data;
+			}
+		});
+
+		synchronized(decoding) {
+			decoding.put(fileName, result);
+		}
+	}
+
+	/******************************************************************
+	 * Runs on the AssetManager's loading thread. Waits for the texture
+	 * to finish decoding if it was decoded ahead, otherwise decodes it.
+	 ******************************************************************/
+	@Override
+	public void loadAsync(AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		AsyncResult<TextureData> result;
+
+		synchronized(decoding) {
+			result = decoding.remove(fileName);
+		}
+
+		if(result == null || parameter == null) {
+			super.loadAsync(manager, fileName, file, parameter);
+			return;
+		}
+
+		parameter.textureData = result.get();
+		super.loadAsync(manager, fileName, file, parameter);
+		parameter.textureData = null;
+	}
+
+	/******************************************************************
+	 * Stops the worker threads once they're done.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		decoders.dispose();
+	}
+}
@@ -0,0 +1,179 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/******************************************************************
+ * Shark store that keeps every shark as its own Shark object. Sharks
+ * that leave the screen go back into a pool and are reused for the
+ * next spawn. This is what the normal game uses.
+ *
+ * <p>Because the sharks are sorted by x-position, only the sharks whose
+ * x-position falls inside the diver's interaction window (found with a
+ * binary search) are checked for follow range and collisions.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class PooledSharkStore implements SharkStore {
+	private final Array<Shark> sharks = new Array<Shark>();
+	private final Pool<Shark> sharkPool;
+	private final float followRange;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 ******************************************************************/
+	public PooledSharkStore(final float difficulty) {
+		followRange = Shark.followRange(Shark.swimSpeed(difficulty));
+		sharkPool = new Pool<Shark>() {
+			@Override
+			protected Shark newObject() {
+				return new Shark(difficulty);
+			}
+		};
+	}
+
+	@Override
+	public void update(float delta, Diver diver, GameRandom random) {
+		int first = firstSharkAtOrAfter(Shark.minInteractionX(diver));
+		float maxX = Shark.maxInteractionX(diver, followRange);
+
+		for(int i = 0; i < sharks.size; i++) {
+			Shark shark = sharks.get(i);
+			boolean nearby = i >= first && shark.getX() <= maxX;
+			shark.update(delta, diver, nearby, random);
+		}
+	}
+
+	@Override
+	public void add(float x, float y) {
+		Shark newShark = sharkPool.obtain();
+		newShark.setPosition(x, y);
+		sharks.add(newShark);
+	}
+
+	@Override
+	public void removeOldest() {
+		sharkPool.free(sharks.removeIndex(0));
+	}
+
+	@Override
+	public int size() {
+		return sharks.size;
+	}
+
+	@Override
+	public float getOldestX() {
+		return sharks.first().getX();
+	}
+
+	@Override
+	public float getNewestX() {
+		return sharks.peek().getX();
+	}
+
+	@Override
+	public float getX(int index) {
+		return sharks.get(index).getX();
+	}
+
+	@Override
+	public float getY(int index) {
+		return sharks.get(index).getY();
+	}
+
+	@Override
+	public boolean hasCollidedWithDiver(Diver diver) {
+		float maxX = diver.getCollisionRect().x + diver.getCollisionRect().width;
+
+		for(int i = firstSharkAtOrAfter(Shark.minInteractionX(diver)); i < sharks.size; i++) {
+			Shark shark = sharks.get(i);
+
+			if(shark.getX() >= maxX) {
+				break;
+			}
+
+			if(shark.hasCollidedWithDiver(diver)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public int countCrossing(float lineX, float distance, float minY, float maxY) {
+		int count = 0;
+		float maxX = lineX - Shark.COLLISION_WIDTH;
+
+		for(int i = firstSharkAtOrAfter(maxX - distance); i < sharks.size; i++) {
+			Shark shark = sharks.get(i);
+
+			if(shark.getX() >= maxX) {
+				break;
+			}
+
+			if(shark.getY() < maxY && shark.getY() + Shark.COLLISION_HEIGHT > minY) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public void draw(SpriteBatch batch, Animation swimAnimation, float alpha) {
+		for(Shark shark : sharks) {
+			shark.draw(batch, swimAnimation, alpha);
+		}
+	}
+
+	@Override
+	public void drawDebug(ShapeRenderer shapeRenderer) {
+		for(Shark shark : sharks) {
+			shark.drawDebug(shapeRenderer);
+		}
+	}
+
+	/******************************************************************
+	 * Binary searches the sharks for the first one whose x-position is
+	 * at least minX.
+	 *
+	 * @param minX float representing the smallest x-position to look for
+	 * @return int representing the index of the shark, or the number of
+	 *         sharks if they are all further left
+	 ******************************************************************/
+	private int firstSharkAtOrAfter(float minX) {
+		int low = 0;
+		int high = sharks.size;
+
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+
+			if(sharks.get(mid).getX() < minX) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+
+	/******************************************************************
+	 * Getter method for the sharks in the store.
+	 *
+	 * @return Array of sharks, oldest first
+	 ******************************************************************/
+	public Array<Shark> getSharks() {
+		return this.sharks;
+	}
+}
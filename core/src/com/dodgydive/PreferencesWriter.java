@@ -0,0 +1,151 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/******************************************************************
+ * Class that writes values to a Preferences file in the background.
+ * Values are collected in memory as they are set, and written and
+ * flushed to disk on a single background thread, so the game thread
+ * never waits on disk I/O. Setting the same key again before it has
+ * been written only keeps the latest value, and everything that was
+ * set while a write was running goes out in the next write.
+ *
+ * <p>flush() writes everything synchronously, and should be called
+ * when the app is paused so nothing is lost if it's killed in the
+ * background. Once the writer is created, only it may touch the
+ * Preferences.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class PreferencesWriter implements Disposable {
+	private final Preferences prefs;
+	private final AsyncExecutor executor = new AsyncExecutor(1);
+	private final Object writeLock = new Object();
+	private final AsyncTask<Void> writeTask = new AsyncTask<Void>() {
+		@Override
+		public Void call() {
+			write();
+			return null;
+		}
+	};
+	private Map<String, Object> dirty = new HashMap<String, Object>();
+	private Map<String, Object> writing = new HashMap<String, Object>();
+	private boolean writeScheduled = false;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param prefs Preferences the values are written to
+	 ******************************************************************/
+	public PreferencesWriter(Preferences prefs) {
+		this.prefs = prefs;
+	}
+
+	/******************************************************************
+	 * Sets a String value, to be written in the background.
+	 *
+	 * @param key   String representing the name of the value
+	 * @param value String to be written
+	 ******************************************************************/
+	public void putString(String key, String value) {
+		put(key, value);
+	}
+
+	/******************************************************************
+	 * Sets a float value, to be written in the background.
+	 *
+	 * @param key   String representing the name of the value
+	 * @param value float to be written
+	 ******************************************************************/
+	public void putFloat(String key, float value) {
+		put(key, value);
+	}
+
+	/******************************************************************
+	 * Sets an int value, to be written in the background.
+	 *
+	 * @param key   String representing the name of the value
+	 * @param value int to be written
+	 ******************************************************************/
+	public void putInteger(String key, int value) {
+		put(key, value);
+	}
+
+	/******************************************************************
+	 * Sets a boolean value, to be written in the background.
+	 *
+	 * @param key   String representing the name of the value
+	 * @param value boolean to be written
+	 ******************************************************************/
+	public void putBoolean(String key, boolean value) {
+		put(key, value);
+	}
+
+	/******************************************************************
+	 * Writes every value that has been set and flushes the Preferences
+	 * to disk before returning.
+	 ******************************************************************/
+	public void flush() {
+		write();
+	}
+
+	/******************************************************************
+	 * Writes what's left and stops the background thread.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		flush();
+		executor.dispose();
+	}
+
+	/******************************************************************
+	 * Marks a value as dirty and makes sure a background write is
+	 * coming.
+	 ******************************************************************/
+	private void put(String key, Object value) {
+		synchronized(this) {
+			dirty.put(key, value);
+
+			if(writeScheduled) {
+				return;
+			}
+
+			writeScheduled = true;
+		}
+
+		executor.submit(writeTask);
+	}
+
+	/******************************************************************
+	 * Takes the dirty values, then writes and flushes them. Only one
+	 * write runs at a time.
+	 ******************************************************************/
+	private void write() {
+		synchronized(writeLock) {
+			synchronized(this) {
+				writeScheduled = false;
+
+				if(dirty.isEmpty()) {
+					return;
+				}
+
+				Map<String, Object> values = dirty;
+				dirty = writing;
+				writing = values;
+			}
+
+			prefs.put(writing);
+			prefs.flush();
+			writing.clear();
+		}
+	}
+}
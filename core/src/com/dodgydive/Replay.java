@@ -0,0 +1,318 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/******************************************************************
+ * Class that holds everything needed to play a game session again
+ * exactly: the seed, the size of the world, the difficulty and whether
+ * it earned its bonus, the number of sharks on screen and whether the
+ * screen was touched on each simulation step. GameWorld polls its input once per step, so this
+ * is enough to reproduce the whole session no matter what frame rate
+ * it was played at. The score, number of steps and the way the session
+ * ended are kept too, so a replay can check it came out the same.
+ *
+ * <p>The touch state is stored as run lengths: how many steps the
+ * screen was released, then how many it was held, and so on. A run
+ * is written as a variable-length number of 7 bits per byte, so a few
+ * minutes of play take a few hundred bytes. The file starts with:
+ *
+ * <pre>
+ * int   MAGIC
+ * short VERSION
+ * long  seed
+ * float width, height, difficulty
+ * byte  difficultyBonus (0 or 1)
+ * int   sharksOnScreen, steps, score
+ * byte  ending (ALIVE, LEFT_SCREEN or EATEN)
+ * int   number of runs
+ * </pre>
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class Replay {
+	public static final int MAGIC = 0x44445250; /* "DDRP" */
+	public static final short VERSION = 4;
+	public static final byte ALIVE = 0;
+	public static final byte LEFT_SCREEN = 1;
+	public static final byte EATEN = 2;
+	private final long seed;
+	private final float width;
+	private final float height;
+	private final float difficulty;
+	private final boolean difficultyBonus;
+	private final int sharksOnScreen;
+	private final IntArray runs = new IntArray();
+	private int steps = 0;
+	private int score = 0;
+	private byte ending = ALIVE;
+	private boolean lastTouched = false;
+
+	/******************************************************************
+	 * Constructor method for the class. Starts an empty recording.
+	 *
+	 * @param seed            long representing the seed of the session
+	 * @param width           float representing the width of the world
+	 * @param height          float representing the height of the world
+	 * @param difficulty      float representing the difficulty of the session
+	 * @param difficultyBonus boolean representing whether the session earned the difficulty bonus
+	 * @param sharksOnScreen  int representing the number of sharks on screen
+	 ******************************************************************/
+	public Replay(long seed, float width, float height, float difficulty, boolean difficultyBonus, int sharksOnScreen) {
+		this.seed = seed;
+		this.width = width;
+		this.height = height;
+		this.difficulty = difficulty;
+		this.difficultyBonus = difficultyBonus;
+		this.sharksOnScreen = sharksOnScreen;
+	}
+
+	/******************************************************************
+	 * Starts an empty recording of a session that hasn't been stepped yet.
+	 *
+	 * @param world GameWorld to take the seed and settings from
+	 * @return Replay to record the touch state of the session into
+	 ******************************************************************/
+	public static Replay of(GameWorld world) {
+		return new Replay(world.getRandom().getSeed(), world.getWidth(), world.getHeight(),
+				world.getDifficulty(), world.hasDifficultyBonus(), world.getSharksOnScreen());
+	}
+
+	/******************************************************************
+	 * Sets up a new session with the same seed and settings as the
+	 * recorded one.
+	 *
+	 * @param input GameInput that decides when the diver swims up
+	 * @return GameWorld that hasn't been stepped yet
+	 ******************************************************************/
+	public GameWorld createWorld(GameInput input) {
+		GameWorld world = new GameWorld(width, height, difficulty, input,
+				new PooledSharkStore(difficulty), new GameRandom(seed));
+		world.setSharksOnScreen(sharksOnScreen);
+		world.setDifficultyBonus(difficultyBonus);
+		return world;
+	}
+
+	/******************************************************************
+	 * Records the touch state of the next step.
+	 *
+	 * @param touched boolean representing whether the screen was touched
+	 ******************************************************************/
+	public void addStep(boolean touched) {
+		if(runs.size == 0 || touched != lastTouched) {
+			if(runs.size == 0 && touched) {
+				runs.add(0);
+			}
+
+			runs.add(0);
+			lastTouched = touched;
+		}
+
+		runs.incr(runs.size - 1, 1);
+		steps++;
+	}
+
+	/******************************************************************
+	 * Takes the score and ending of the recorded session, once it's over
+	 * or no longer stepped.
+	 *
+	 * @param world GameWorld the replay was recorded from
+	 ******************************************************************/
+	public void finish(GameWorld world) {
+		this.score = world.getScore();
+		this.ending = endingOf(world);
+	}
+
+	/******************************************************************
+	 * How a session has ended so far.
+	 *
+	 * @param world GameWorld to check
+	 * @return byte that is ALIVE, LEFT_SCREEN or EATEN
+	 ******************************************************************/
+	public static byte endingOf(GameWorld world) {
+		if(world.isKilledByShark()) {
+			return EATEN;
+		}
+
+		return world.isOver() ? LEFT_SCREEN : ALIVE;
+	}
+
+	/******************************************************************
+	 * Writes the replay to a file, replacing it if it exists.
+	 *
+	 * @param file FileHandle to write to
+	 * @throws IOException if the file can't be written
+	 ******************************************************************/
+	public void write(FileHandle file) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+
+		try {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeLong(seed);
+			out.writeFloat(width);
+			out.writeFloat(height);
+			out.writeFloat(difficulty);
+			out.writeBoolean(difficultyBonus);
+			out.writeInt(sharksOnScreen);
+			out.writeInt(steps);
+			out.writeInt(score);
+			out.writeByte(ending);
+			out.writeInt(runs.size);
+
+			for(int i = 0; i < runs.size; i++) {
+				writeVarInt(out, runs.get(i));
+			}
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/******************************************************************
+	 * Reads a replay written by write.
+	 *
+	 * @param file FileHandle to read from
+	 * @return Replay that was read
+	 * @throws IOException if the file can't be read or isn't a replay
+	 *                     of this version
+	 ******************************************************************/
+	public static Replay read(FileHandle file) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()));
+
+		try {
+			if(in.readInt() != MAGIC) {
+				throw new IOException(file.path() + " isn't a replay");
+			}
+
+			short version = in.readShort();
+			if(version != VERSION) {
+				throw new IOException(file.path() + " is a version " + version + " replay, expected " + VERSION);
+			}
+
+			Replay replay = new Replay(in.readLong(), in.readFloat(), in.readFloat(), in.readFloat(),
+					in.readBoolean(), in.readInt());
+			int steps = in.readInt();
+			replay.score = in.readInt();
+			replay.ending = in.readByte();
+			int runCount = in.readInt();
+			int total = 0;
+
+			replay.runs.ensureCapacity(runCount);
+			for(int i = 0; i < runCount; i++) {
+				int run = readVarInt(in);
+				replay.runs.add(run);
+				total += run;
+			}
+
+			if(total != steps) {
+				throw new IOException(file.path() + " has " + total + " steps of input, expected " + steps);
+			}
+
+			replay.steps = steps;
+			replay.lastTouched = runCount % 2 == 0;
+			return replay;
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/******************************************************************
+	 * Getter method for the length of a run of steps. Even runs are
+	 * steps the screen was released, odd runs steps it was held.
+	 *
+	 * @param run int index of the run
+	 * @return int representing the number of steps in the run
+	 ******************************************************************/
+	public int getRun(int run) {
+		return runs.get(run);
+	}
+
+	/******************************************************************
+	 * Getter method for the number of runs of touch state.
+	 *
+	 * @return int representing the number of runs
+	 ******************************************************************/
+	public int getRunCount() {
+		return runs.size;
+	}
+
+	/******************************************************************
+	 * Getter method for the seed of the session.
+	 *
+	 * @return long representing the seed
+	 ******************************************************************/
+	public long getSeed() {
+		return this.seed;
+	}
+
+	/******************************************************************
+	 * Getter method for the difficulty of the session.
+	 *
+	 * @return float representing the difficulty
+	 ******************************************************************/
+	public float getDifficulty() {
+		return this.difficulty;
+	}
+
+	/******************************************************************
+	 * Getter method for the number of recorded steps.
+	 *
+	 * @return int representing the number of steps
+	 ******************************************************************/
+	public int getSteps() {
+		return this.steps;
+	}
+
+	/******************************************************************
+	 * Getter method for the score the recorded session ended with.
+	 *
+	 * @return int representing the final score
+	 ******************************************************************/
+	public int getScore() {
+		return this.score;
+	}
+
+	/******************************************************************
+	 * Getter method for how the recorded session ended.
+	 *
+	 * @return byte that is ALIVE, LEFT_SCREEN or EATEN
+	 ******************************************************************/
+	public byte getEnding() {
+		return this.ending;
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while((value & ~0x7f) != 0) {
+			out.writeByte((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		int value = 0;
+
+		for(int shift = 0; shift < 32; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (b & 0x7f) << shift;
+
+			if((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Run length is too long");
+	}
+}
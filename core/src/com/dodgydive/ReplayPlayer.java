@@ -0,0 +1,62 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Input that plays back the touch state recorded in a Replay, one step
+ * per poll. A GameWorld made by Replay.createWorld and driven by this
+ * plays out exactly like the recorded session. After the last recorded
+ * step the screen stays released.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class ReplayPlayer implements GameInput {
+	private final Replay replay;
+	private int run = 0;
+	private int stepInRun = 0;
+	private int step = 0;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param replay Replay to play back from its first step
+	 ******************************************************************/
+	public ReplayPlayer(Replay replay) {
+		this.replay = replay;
+	}
+
+	@Override
+	public boolean isTouched() {
+		while(run < replay.getRunCount() && stepInRun == replay.getRun(run)) {
+			run++;
+			stepInRun = 0;
+		}
+
+		if(run == replay.getRunCount()) {
+			return false;
+		}
+
+		stepInRun++;
+		step++;
+		return run % 2 == 1;
+	}
+
+	/******************************************************************
+	 * Getter method for the number of steps played back so far.
+	 *
+	 * @return int representing the number of steps
+	 ******************************************************************/
+	public int getStep() {
+		return this.step;
+	}
+
+	/******************************************************************
+	 * Whether every recorded step has been played back.
+	 *
+	 * @return boolean representing whether the replay is over
+	 ******************************************************************/
+	public boolean isFinished() {
+		return step >= replay.getSteps();
+	}
+}
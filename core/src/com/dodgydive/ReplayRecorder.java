@@ -0,0 +1,43 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Input that passes another input through unchanged and records what
+ * it returned into a Replay. GameWorld polls its input once per step,
+ * so the Replay ends up with the touch state of every step.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class ReplayRecorder implements GameInput {
+	private final GameInput input;
+	private final Replay replay;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param input  GameInput that really decides when the diver swims up
+	 * @param replay Replay to record the touch state into
+	 ******************************************************************/
+	public ReplayRecorder(GameInput input, Replay replay) {
+		this.input = input;
+		this.replay = replay;
+	}
+
+	@Override
+	public boolean isTouched() {
+		boolean touched = input.isTouched();
+		replay.addStep(touched);
+		return touched;
+	}
+
+	/******************************************************************
+	 * Getter method for the recording.
+	 *
+	 * @return Replay holding the touch state of every step so far
+	 ******************************************************************/
+	public Replay getReplay() {
+		return this.replay;
+	}
+}
@@ -0,0 +1,52 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Source of memory and garbage collection numbers for the debug
+ * overlay. What the VM exposes differs per platform, so each launcher
+ * can hand its own to DodgyDiveGame. Values that a platform can't
+ * provide are returned as -1.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public interface RuntimeStats {
+
+	/******************************************************************
+	 * How much of the Java heap is in use.
+	 *
+	 * @return long representing the number of bytes
+	 ******************************************************************/
+	long getHeapUsed();
+
+	/******************************************************************
+	 * How large the Java heap is allowed to grow.
+	 *
+	 * @return long representing the number of bytes
+	 ******************************************************************/
+	long getHeapMax();
+
+	/******************************************************************
+	 * How many garbage collections have run since the app started.
+	 *
+	 * @return long representing the number of collections, or -1
+	 ******************************************************************/
+	long getGcCount();
+
+	/******************************************************************
+	 * How long the garbage collections have taken in total.
+	 *
+	 * @return long representing the number of milliseconds, or -1
+	 ******************************************************************/
+	long getGcMillis();
+
+	/******************************************************************
+	 * How many bytes the calling thread has allocated since it started.
+	 * Only the difference between two calls on the same thread means
+	 * anything.
+	 *
+	 * @return long representing the number of bytes, or -1
+	 ******************************************************************/
+	long getAllocatedBytes();
+}
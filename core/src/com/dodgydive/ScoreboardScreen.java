@@ -1,14 +1,12 @@
 package com.dodgydive;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -25,20 +23,23 @@ import java.util.Locale;
 
 /******************************************************************
  * Class that constructs the score-board screen where the player
- * can see the top 5 scores.
+ * can see the top 5 scores. The screen listens to the SettingsStore
+ * and rewrites the scores whenever a game changes them, instead of
+ * reading them again every time it's shown.
  *
  * @author      Damian Jimenez, jimenez.dmn@gmail.com
  *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
  *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
  *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
  ******************************************************************/
-public class ScoreboardScreen extends ScreenAdapter {
+public class ScoreboardScreen extends ScreenAdapter implements SettingsListener {
 	private static final int WORLD_WIDTH = Gdx.graphics.getWidth();
 	private static final int WORLD_HEIGHT = Gdx.graphics.getHeight();
 	private static final float SCALING = 1440f / Gdx.graphics.getHeight();
-	private static final Preferences PREFS = Gdx.app.getPreferences("Game_Settings");
 	private final DodgyDiveGame dodgyDiveGame;
 	private Stage stage;
+	private final Array<TextButton> scoreButtons = new Array<TextButton>();
+	private final int[] shownScores = new int[GameSettings.HI_SCORE_COUNT];
 
 	/******************************************************************
 	 * Constructor method for the class. Set's up a DodgyDiveGame instance
@@ -51,34 +52,45 @@ public class ScoreboardScreen extends ScreenAdapter {
 	}
 
 	/******************************************************************
-	 * Draws all of the relevant assets on the screen. A table is used
-	 * to make sure the alignment of the assets is consistent.
+	 * Hands input to the scoreboard stage, building it the first time.
 	 ******************************************************************/
 	@Override
 	public void show() {
 		super.show();
 
-		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
+		if(stage == null) {
+			buildStage();
+		}
+
 		Gdx.input.setInputProcessor(stage);
+	}
+
+	/******************************************************************
+	 * Takes input away from the scoreboard's buttons while another
+	 * screen is shown.
+	 ******************************************************************/
+	@Override
+	public void hide() {
+		super.hide();
+		Gdx.input.setInputProcessor(null);
+	}
 
-		loadScores();
+	/******************************************************************
+	 * Builds the stage with all of the relevant assets. A table is used
+	 * to make sure the alignment of the assets is consistent.
+	 ******************************************************************/
+	private void buildStage() {
+		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
 
 		Table table = new Table();
 		table.setFillParent(true);
 		Table scoresTable = new Table();
 		scoresTable.setFillParent(true);
 
-		TextureAtlas textureAtlas = dodgyDiveGame.getAssetManager().get("dodgy_dive_assets.atlas");
+		TextureAtlas textureAtlas = dodgyDiveGame.getAssets().getAtlas();
 
-		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("score_font.ttf"));
-		FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-		parameter.size = 80;
-		parameter.kerning = true;
-		parameter.borderStraight = true;
-		parameter.borderWidth = 1;
-		BitmapFont scoreFont = generator.generateFont(parameter);
+		BitmapFont scoreFont = dodgyDiveGame.getFonts().get(80, 1, true);
 		scoreFont.setColor(0, 0, 0, 0.70f);
-		generator.dispose();
 
 		TextureRegion backgroundTexture = textureAtlas.findRegion("scores_background");
 		Image background = new Image(backgroundTexture);
@@ -94,8 +106,7 @@ public class ScoreboardScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new SettingsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showSettingsScreen();
 			}
 		});
 
@@ -109,8 +120,7 @@ public class ScoreboardScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new StartScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showStartScreen();
 			}
 		});
 
@@ -123,8 +133,7 @@ public class ScoreboardScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new CreditsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showCreditsScreen();
 			}
 		});
 
@@ -138,13 +147,44 @@ public class ScoreboardScreen extends ScreenAdapter {
 
 		scoresTable.center().top().padTop((0.273f / (SCALING > 1 ? 1.05f : SCALING)) * WORLD_HEIGHT);
 
-		Array<TextButton> scoreButtons = new Array<TextButton>();
-		for(int i = 0; i < 5; i++) {
-			scoreButtons.add(new TextButton(String.format(Locale.US, "%010d", PREFS.getInteger("hS" + (i + 1))), new TextButton.TextButtonStyle(null, null, null, scoreFont)));
+		GameSettings settings = dodgyDiveGame.getSettings().get();
+
+		for(int i = 0; i < GameSettings.HI_SCORE_COUNT; i++) {
+			scoreButtons.add(new TextButton("", new TextButton.TextButtonStyle(null, null, null, scoreFont)));
 			scoresTable.add(scoreButtons.get(i)).pad(i > 0 ? (.046f / (SCALING > 1 ? 1.29f : SCALING)) * WORLD_HEIGHT : 0).padBottom((.046f / (SCALING > 1 ? 1.29f : SCALING)) * WORLD_HEIGHT).row();
+			scoreButtons.get(i).setText(formatScore(settings.getHiScore(i)));
+			shownScores[i] = settings.getHiScore(i);
+		}
+
+		dodgyDiveGame.getSettings().addListener(this);
+	}
+
+	/******************************************************************
+	 * Rewrites the score buttons whose hi-score has changed. Changes to
+	 * the other settings leave the buttons alone.
+	 *
+	 * @param settings GameSettings holding the new hi-scores
+	 ******************************************************************/
+	@Override
+	public void settingsChanged(GameSettings settings) {
+		for(int i = 0; i < scoreButtons.size; i++) {
+			if(settings.getHiScore(i) != shownScores[i]) {
+				scoreButtons.get(i).setText(formatScore(settings.getHiScore(i)));
+				shownScores[i] = settings.getHiScore(i);
+			}
 		}
 	}
 
+	/******************************************************************
+	 * Pads a score with zeros to ten digits.
+	 *
+	 * @param score int representing the score to write
+	 * @return String holding the padded score
+	 ******************************************************************/
+	private static String formatScore(int score) {
+		return String.format(Locale.US, "%010d", score);
+	}
+
 	/******************************************************************
 	 * Keeps track of whenever the screen is resized and makes the
 	 * viewport (viewable screen area) resize to the given width and height.
@@ -174,7 +214,11 @@ public class ScoreboardScreen extends ScreenAdapter {
 	@Override
 	public void dispose() {
 		super.dispose();
-		stage.dispose();
+
+		if(stage != null) {
+			dodgyDiveGame.getSettings().removeListener(this);
+			stage.dispose();
+		}
 	}
 
 	/******************************************************************
@@ -184,21 +228,4 @@ public class ScoreboardScreen extends ScreenAdapter {
 		Gdx.gl.glClearColor(Color.BLACK.r, Color.BLACK.g, Color.BLACK.b, Color.BLACK.a);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 	}
-
-	/******************************************************************
-	 * Makes sure scores are actually stored in the preferences file.
-	 * If there are no scores stored, then create a preferences file
-	 * and store 0's for the top 5 scores.
-	 ******************************************************************/
-	public void loadScores() {
-		if(!PREFS.contains("hiScoresSet") && !PREFS.getBoolean("hiScoresSet")) {
-			PREFS.putBoolean("hiScoresSet", true);
-			PREFS.putInteger("hS1", 0);
-			PREFS.putInteger("hS2", 0);
-			PREFS.putInteger("hS3", 0);
-			PREFS.putInteger("hS4", 0);
-			PREFS.putInteger("hS5", 0);
-			PREFS.flush();
-		}
-	}
 }
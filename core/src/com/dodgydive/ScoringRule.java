@@ -0,0 +1,23 @@
+package com.dodgydive;
+
+/******************************************************************
+ * A way of earning points while the game is played. GameWorld asks
+ * each of its scoring rules for points once every simulation step,
+ * on the game thread, after checking that the diver is still alive.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public interface ScoringRule {
+
+	/******************************************************************
+	 * Works out the points earned during the last simulation step.
+	 *
+	 * @param world GameWorld that was just stepped
+	 * @param delta float representing the length of the step in seconds
+	 * @return int representing the points to add to the score
+	 ******************************************************************/
+	int score(GameWorld world, float delta);
+}
@@ -0,0 +1,20 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Gets told whenever SettingsStore publishes a new settings snapshot.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public interface SettingsListener {
+
+	/******************************************************************
+	 * Called on the thread that changed the settings, after the new
+	 * snapshot has been published.
+	 *
+	 * @param settings GameSettings holding the new settings
+	 ******************************************************************/
+	void settingsChanged(GameSettings settings);
+}
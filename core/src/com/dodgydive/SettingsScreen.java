@@ -1,14 +1,12 @@
 package com.dodgydive;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
@@ -36,9 +34,12 @@ public class SettingsScreen extends ScreenAdapter {
 	private static final int WORLD_WIDTH = Gdx.graphics.getWidth();
 	private static final int WORLD_HEIGHT = Gdx.graphics.getHeight();
 	private static final float SCALING = 1440f / Gdx.graphics.getHeight();
-	private static final Preferences PREFS = Gdx.app.getPreferences("Game_Settings");
 	private final DodgyDiveGame dodgyDiveGame;
 	private Stage stage;
+	private CheckBox backgroundCheckbox;
+	private CheckBox costumeCheckbox;
+	private Slider musicSlider;
+	private Slider diffSlider;
 
 	/******************************************************************
 	 * Constructor method for the class. Set's up a DodgyDiveGame instance
@@ -51,32 +52,47 @@ public class SettingsScreen extends ScreenAdapter {
 	}
 
 	/******************************************************************
-	 * Draws all of the relevant assets on the screen. A table is used
-	 * to make sure the alignment of the assets is consistent.
+	 * Hands input to the settings stage, building it the first time, and
+	 * moves the checkboxes and sliders to the current settings.
 	 ******************************************************************/
 	@Override
 	public void show() {
 		super.show();
 
-		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
+		if(stage == null) {
+			buildStage();
+		}
+
 		Gdx.input.setInputProcessor(stage);
+		refreshSettings();
+	}
+
+	/******************************************************************
+	 * Takes input away from the checkboxes and sliders, so a drag that
+	 * started here can't change a setting after leaving the screen.
+	 ******************************************************************/
+	@Override
+	public void hide() {
+		super.hide();
+		Gdx.input.setInputProcessor(null);
+	}
+
+	/******************************************************************
+	 * Builds the stage with all of the relevant assets. A table is used
+	 * to make sure the alignment of the assets is consistent.
+	 ******************************************************************/
+	private void buildStage() {
+		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
 
 		Table table = new Table();
 		table.setFillParent(true);
 		Table settingsTable = new Table();
 		settingsTable.setFillParent(true);
 
-		FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("score_font.ttf"));
-		FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-		parameter.size = 58;
-		parameter.kerning = true;
-		parameter.borderStraight = true;
-		parameter.borderWidth = 1;
-		BitmapFont customFont = generator.generateFont(parameter);
+		BitmapFont customFont = dodgyDiveGame.getFonts().get(58, 1, true);
 		customFont.setColor(0, 0, 0, 0.70f);
-		generator.dispose();
 
-		TextureAtlas textureAtlas = dodgyDiveGame.getAssetManager().get("dodgy_dive_assets.atlas");
+		TextureAtlas textureAtlas = dodgyDiveGame.getAssets().getAtlas();
 
 		TextureRegion backgroundTexture = textureAtlas.findRegion("settings_background");
 		Image background = new Image(backgroundTexture);
@@ -98,8 +114,7 @@ public class SettingsScreen extends ScreenAdapter {
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new CreditsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showCreditsScreen();
 			}
 		});
 
@@ -113,8 +128,7 @@ public class SettingsScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new StartScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showStartScreen();
 			}
 		});
 
@@ -127,8 +141,7 @@ public class SettingsScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new ScoreboardScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showScoreboardScreen();
 			}
 		});
 
@@ -147,9 +160,8 @@ public class SettingsScreen extends ScreenAdapter {
 		settingsTable.padLeft(0.475f * WORLD_WIDTH);
 		settingsTable.padTop((0.270f / (SCALING > 1 ? 1.1f : SCALING)) * WORLD_HEIGHT); // Hack to make it look okay on both the Nexus 5X and 6P...
 
-		final CheckBox backgroundCheckbox = new CheckBox(null, new CheckBox.CheckBoxStyle(checkbox, checkboxChecked, customFont, null));
+		backgroundCheckbox = new CheckBox(null, new CheckBox.CheckBoxStyle(checkbox, checkboxChecked, customFont, null));
 		settingsTable.add(backgroundCheckbox).pad(0).padBottom((0.0455f / SCALING) * WORLD_HEIGHT).row();
-		backgroundCheckbox.setChecked(PREFS.contains("gameBackground") && PREFS.getString("gameBackground").equalsIgnoreCase("background_radioactive"));
 		backgroundCheckbox.addListener(
 				new ActorGestureListener() {
 					@Override
@@ -164,9 +176,8 @@ public class SettingsScreen extends ScreenAdapter {
 				}
 		);
 
-		final CheckBox costumeCheckbox = new CheckBox(null, new CheckBox.CheckBoxStyle(checkbox, checkboxChecked, customFont, null));
+		costumeCheckbox = new CheckBox(null, new CheckBox.CheckBoxStyle(checkbox, checkboxChecked, customFont, null));
 		settingsTable.add(costumeCheckbox).size(147, 147).pad((0.0455f / SCALING) * WORLD_HEIGHT).padBottom((0.043f / SCALING) * WORLD_HEIGHT).row();
-		costumeCheckbox.setChecked(PREFS.contains("diverCostume") && PREFS.getString("diverCostume").equalsIgnoreCase("diver_alt"));
 		costumeCheckbox.addListener(
 				new ActorGestureListener() {
 					@Override
@@ -181,8 +192,7 @@ public class SettingsScreen extends ScreenAdapter {
 				}
 		);
 
-		final Slider musicSlider = new Slider(0, 1, 0.1f, false, new Slider.SliderStyle(sliderBackground, sliderKnob));
-		musicSlider.setValue(PREFS.contains("musicVolume") ? PREFS.getFloat("musicVolume") : 0.5f);
+		musicSlider = new Slider(0, 1, 0.1f, false, new Slider.SliderStyle(sliderBackground, sliderKnob));
 		settingsTable.add(musicSlider).width((WORLD_WIDTH / 2) - 100).pad((0.0455f / SCALING) * WORLD_HEIGHT).padBottom((0.05f / SCALING) * WORLD_HEIGHT).row();
 		musicSlider.addListener(
 				new DragListener() {
@@ -203,8 +213,7 @@ public class SettingsScreen extends ScreenAdapter {
 				}
 		);
 
-		final Slider diffSlider = new Slider(100, 500, 5f, false, new Slider.SliderStyle(sliderBackground, sliderKnob));
-		diffSlider.setValue(PREFS.contains("difficulty") ? PREFS.getFloat("difficulty") : 175f);
+		diffSlider = new Slider(100, 500, 5f, false, new Slider.SliderStyle(sliderBackground, sliderKnob));
 		settingsTable.add(diffSlider).width((WORLD_WIDTH / 2) - 100).pad((0.0455f / SCALING) * WORLD_HEIGHT).row();
 		diffSlider.addListener(
 				new DragListener() {
@@ -226,13 +235,24 @@ public class SettingsScreen extends ScreenAdapter {
 		);
 	}
 
+	/******************************************************************
+	 * Sets the checkboxes and sliders to the current settings.
+	 ******************************************************************/
+	private void refreshSettings() {
+		GameSettings settings = dodgyDiveGame.getSettings().get();
+		backgroundCheckbox.setChecked(settings.getBackground().equalsIgnoreCase("background_radioactive"));
+		costumeCheckbox.setChecked(settings.getDiverCostume().equalsIgnoreCase("diver_alt"));
+		musicSlider.setValue(settings.getMusicVolume());
+		diffSlider.setValue(settings.getDifficulty());
+	}
+
 	/******************************************************************
 	 * Switches between the normal character costume and an alternate
 	 * character costume that is purple in color.
 	 ******************************************************************/
 	public void updateDiverCostume(String costumeName) {
-		PREFS.putString("diverCostume", costumeName);
-		PREFS.flush();
+		SettingsStore settings = dodgyDiveGame.getSettings();
+		settings.update(settings.get().withDiverCostume(costumeName));
 	}
 
 	/******************************************************************
@@ -240,8 +260,8 @@ public class SettingsScreen extends ScreenAdapter {
 	 * that features a radioactive setting.
 	 ******************************************************************/
 	public void updateGameBackground(String backgroundName) {
-		PREFS.putString("gameBackground", backgroundName);
-		PREFS.flush();
+		SettingsStore settings = dodgyDiveGame.getSettings();
+		settings.update(settings.get().withBackground(backgroundName));
 	}
 
 	/******************************************************************
@@ -249,8 +269,8 @@ public class SettingsScreen extends ScreenAdapter {
 	 * is dragged or tapped on.
 	 ******************************************************************/
 	public void updateMusicVolume(float volume) {
-		PREFS.putFloat("musicVolume", volume);
-		PREFS.flush();
+		SettingsStore settings = dodgyDiveGame.getSettings();
+		settings.update(settings.get().withMusicVolume(volume));
 	}
 
 	/******************************************************************
@@ -258,8 +278,8 @@ public class SettingsScreen extends ScreenAdapter {
 	 * is dragged or tapped on.
 	 ******************************************************************/
 	public void updateDifficulty(float difficulty) {
-		PREFS.putFloat("difficulty", difficulty);
-		PREFS.flush();
+		SettingsStore settings = dodgyDiveGame.getSettings();
+		settings.update(settings.get().withDifficulty(difficulty));
 	}
 
 	/******************************************************************
@@ -291,7 +311,10 @@ public class SettingsScreen extends ScreenAdapter {
 	@Override
 	public void dispose() {
 		super.dispose();
-		stage.dispose();
+
+		if(stage != null) {
+			stage.dispose();
+		}
 	}
 
 	/******************************************************************
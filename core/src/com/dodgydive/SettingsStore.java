@@ -0,0 +1,150 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/******************************************************************
+ * Class that owns the "Game_Settings" preferences file. It reads the
+ * file once when the game starts and publishes what it read as an
+ * immutable GameSettings snapshot, so the rest of the game never has
+ * to look up preference keys. Changes go through update(), which
+ * tells the listeners right away and hands the keys that changed to a
+ * PreferencesWriter, which saves them in the background.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class SettingsStore implements Disposable {
+	public static final String PREFERENCES_NAME = "Game_Settings";
+	private static final String BACKGROUND_KEY = "gameBackground";
+	private static final String DIVER_COSTUME_KEY = "diverCostume";
+	private static final String MUSIC_VOLUME_KEY = "musicVolume";
+	private static final String DIFFICULTY_KEY = "difficulty";
+	private static final String HI_SCORES_SET_KEY = "hiScoresSet";
+	private static final String[] HI_SCORE_KEYS = {"hS1", "hS2", "hS3", "hS4", "hS5"};
+	private final PreferencesWriter writer;
+	private final Array<SettingsListener> listeners = new Array<SettingsListener>();
+	private GameSettings settings;
+
+	/******************************************************************
+	 * Constructor method for the class. Reads the settings from the
+	 * preferences file, and stores 0's for the top 5 scores if there
+	 * are no scores stored yet.
+	 *
+	 * @param prefs Preferences the settings are kept in
+	 ******************************************************************/
+	public SettingsStore(Preferences prefs) {
+		boolean hiScoresSet = prefs.contains(HI_SCORES_SET_KEY) || prefs.getBoolean(HI_SCORES_SET_KEY);
+		int[] hiScores = new int[GameSettings.HI_SCORE_COUNT];
+
+		for(int i = 0; i < HI_SCORE_KEYS.length; i++) {
+			hiScores[i] = prefs.getInteger(HI_SCORE_KEYS[i]);
+		}
+
+		settings = new GameSettings(
+				prefs.getString(BACKGROUND_KEY, GameSettings.DEFAULT_BACKGROUND),
+				prefs.getString(DIVER_COSTUME_KEY, GameSettings.DEFAULT_DIVER_COSTUME),
+				prefs.getFloat(MUSIC_VOLUME_KEY, GameSettings.DEFAULT_MUSIC_VOLUME),
+				prefs.getFloat(DIFFICULTY_KEY, GameSettings.DEFAULT_DIFFICULTY),
+				prefs.contains(DIFFICULTY_KEY),
+				hiScores);
+
+		/* Everything is read before the writer starts, so the background thread is the only one using prefs from here on */
+		writer = new PreferencesWriter(prefs);
+
+		if(!hiScoresSet) {
+			writer.putBoolean(HI_SCORES_SET_KEY, true);
+
+			for(int i = 0; i < HI_SCORE_KEYS.length; i++) {
+				writer.putInteger(HI_SCORE_KEYS[i], 0);
+			}
+		}
+	}
+
+	/******************************************************************
+	 * Getter method for the current settings.
+	 *
+	 * @return GameSettings holding the latest published settings
+	 ******************************************************************/
+	public GameSettings get() {
+		return this.settings;
+	}
+
+	/******************************************************************
+	 * Publishes a new settings snapshot. The values that differ from
+	 * the current snapshot are queued to be saved in the background,
+	 * then the listeners are told about the change.
+	 *
+	 * @param newSettings GameSettings to publish
+	 ******************************************************************/
+	public void update(GameSettings newSettings) {
+		GameSettings oldSettings = settings;
+
+		if(newSettings == oldSettings) {
+			return;
+		}
+
+		settings = newSettings;
+
+		if(!newSettings.getBackground().equals(oldSettings.getBackground())) {
+			writer.putString(BACKGROUND_KEY, newSettings.getBackground());
+		}
+		if(!newSettings.getDiverCostume().equals(oldSettings.getDiverCostume())) {
+			writer.putString(DIVER_COSTUME_KEY, newSettings.getDiverCostume());
+		}
+		if(newSettings.getMusicVolume() != oldSettings.getMusicVolume()) {
+			writer.putFloat(MUSIC_VOLUME_KEY, newSettings.getMusicVolume());
+		}
+		if(newSettings.isDifficultySet() && (!oldSettings.isDifficultySet()
+				|| newSettings.getDifficulty() != oldSettings.getDifficulty())) {
+			writer.putFloat(DIFFICULTY_KEY, newSettings.getDifficulty());
+		}
+		for(int i = 0; i < HI_SCORE_KEYS.length; i++) {
+			if(newSettings.getHiScore(i) != oldSettings.getHiScore(i)) {
+				writer.putInteger(HI_SCORE_KEYS[i], newSettings.getHiScore(i));
+			}
+		}
+
+		for(int i = 0; i < listeners.size; i++) {
+			listeners.get(i).settingsChanged(newSettings);
+		}
+	}
+
+	/******************************************************************
+	 * Saves every queued change to disk before returning. Called when
+	 * the game is paused, since the app may be killed while it's in
+	 * the background.
+	 ******************************************************************/
+	public void flush() {
+		writer.flush();
+	}
+
+	/******************************************************************
+	 * Saves every queued change and stops the background writer.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		writer.dispose();
+	}
+
+	/******************************************************************
+	 * Registers a listener that is told about every new snapshot.
+	 *
+	 * @param listener SettingsListener to add
+	 ******************************************************************/
+	public void addListener(SettingsListener listener) {
+		listeners.add(listener);
+	}
+
+	/******************************************************************
+	 * Stops telling a listener about new snapshots.
+	 *
+	 * @param listener SettingsListener to remove
+	 ******************************************************************/
+	public void removeListener(SettingsListener listener) {
+		listeners.removeValue(listener, true);
+	}
+}
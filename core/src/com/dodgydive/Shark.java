@@ -1,95 +1,99 @@
 package com.dodgydive;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
-
-import java.util.Random;
+import com.badlogic.gdx.utils.Pool;
 
 /******************************************************************
  * Class that draws and updates a shark enemy. This is used in an
  * Array of sharks to spawn several sharks on screen while the game
- * is being played.
+ * is being played. Sharks are pooled, so a shark that leaves the screen
+ * is reset and handed out again for the next spawn.
  *
  * @author      Damian Jimenez, jimenez.dmn@gmail.com
  *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
  *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
  *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
  ******************************************************************/
-public class Shark {
-	private static final Preferences PREFS = Gdx.app.getPreferences("Game_Settings");
-	private static final float COLLISION_WIDTH = 160f;
-	private static final float COLLISION_HEIGHT = 60f;
-	private static final int TILE_WIDTH = 207;
-	private static final int TILE_HEIGHT = 133;
-	private static final float FRAME_DURATION = 0.15f;
-	private final float SWIM_SPEED = 1.25f * (PREFS.contains("difficulty") ? PREFS.getFloat("difficulty") : 175f);
-	private final Rectangle collisionRect;
-	private final Animation swimAnimation;
-	private Float prevRand = null;
+public class Shark implements Pool.Poolable {
+	static final float COLLISION_WIDTH = 160f;
+	static final float COLLISION_HEIGHT = 60f;
+	static final int TILE_WIDTH = 207;
+	static final int TILE_HEIGHT = 133;
+	static final float FRAME_DURATION = 0.15f;
+	static final float DRIFT_RATE = 60f; /* vertical drift was tuned in pixels per frame at 60 fps */
+	static final float TEXTURE_OFFSET_X = 2f;
+	static final float TEXTURE_OFFSET_Y = 32f;
+	private final float SWIM_SPEED;
+	private float prevRand = 0;
+	private boolean hasPrevRand = false;
 	private float x;
 	private float y;
+	private float prevX;
+	private float prevY;
 	private float animationTimer = 0;
-	private float sharkFollowRange = 1.15f * (SWIM_SPEED/3.25f);
+	private float sharkFollowRange;
 
 	/******************************************************************
-	 * Constructor method for the class. Set's up the Shark instance
-	 * and set's the texture that will be used to display the Shark, as
-	 * well as creating the animation and collision rectangle for the Shark.
+	 * Constructor method for the class. Set's up the Shark instance and
+	 * its swim speed for the given difficulty. The shark only keeps its
+	 * own state, the animation is supplied when it's drawn and its
+	 * collision rectangle is always COLLISION_WIDTH by COLLISION_HEIGHT
+	 * at its position.
 	 *
-	 * @param sharkTexture Texture for the sharks.
+	 * @param difficulty float representing the difficulty setting of the game
 	 ******************************************************************/
-	public Shark(TextureRegion sharkTexture) {
-		TextureRegion[][] sharkTextures = new TextureRegion(sharkTexture).split(TILE_WIDTH, TILE_HEIGHT);
-
-		Array<TextureRegion> sharkFrames = new Array<TextureRegion>();
-		for(TextureRegion[] sharkTextureArr : sharkTextures) {
-			for(TextureRegion aSharkTexture : sharkTextureArr) {
-				sharkFrames.add(aSharkTexture);
-			}
-		}
-
-		swimAnimation = new Animation(FRAME_DURATION, sharkFrames, Animation.PlayMode.LOOP);
-		collisionRect = new Rectangle(x, y, COLLISION_WIDTH, COLLISION_HEIGHT);
+	public Shark(float difficulty) {
+		SWIM_SPEED = swimSpeed(difficulty);
+		sharkFollowRange = followRange(SWIM_SPEED);
 	}
 
 	/******************************************************************
-	 * Updates the position of the shark.
-	 *
-	 * @param delta float that will be used to move the shark to the left
-	 *              and update the animation timer.
+	 * Updates the position of the shark. The position before the update
+	 * is kept so drawing can blend between the two.
 	 *
+	 * @param delta  float representing the length of the simulation step
+	 *               in seconds, used to move the shark and update the
+	 *               animation timer.
+	 * @param diver  the diver the shark will follow if it is in range
+	 * @param random GameRandom that the random drift of the shark is drawn from
 	 ******************************************************************/
-	public void update(float delta, float rand, Diver diver) {
+	public void update(float delta, Diver diver, GameRandom random) {
+		update(delta, diver, true, random);
+	}
 
-		float r = rand;
+	/******************************************************************
+	 * Updates the position of the shark, only checking whether the diver
+	 * is in follow range if the caller hasn't already ruled it out.
+	 *
+	 * @param delta      float representing the length of the simulation step
+	 * @param diver      the diver the shark will follow if it is in range
+	 * @param checkRange boolean representing whether the shark is close
+	 *                   enough to the diver that the range must be checked
+	 * @param random     GameRandom that the random drift of the shark is drawn from
+	 ******************************************************************/
+	public void update(float delta, Diver diver, boolean checkRange, GameRandom random) {
 
-		prevRand = prevRand == null ? r : prevRand;
+		float rand = random.nextDrift();
 
-		if(prevRand < 0 && r > 0) {
-			r *= ((new Random().nextInt(11) - 9.5f) <= 0.0f) ? -1f : 1f;
-		}
-		else if(prevRand > 0 && r < 0) {
-			r *= ((new Random().nextInt(11) - 0.5f) >= 0.0f) ? -1f : 1f;
+		if(!hasPrevRand) {
+			prevRand = rand;
+			hasPrevRand = true;
 		}
 
-		prevRand = r;
+		prevRand = flipDrift(prevRand, rand, random);
 
 		float swimDirection = 0; // Direction shark should swim, no direction == 0, up > 0, down < 0
 
-		if(diverInRange(diver)) {
+		if(checkRange && diverInRange(diver)) {
 			if(diver.getY() > y) {
-				swimDirection = 1.15f * (SWIM_SPEED/150);
+				swimDirection = followSpeed(SWIM_SPEED);
 			}
 			else if(diver.getY() < y) {
-				swimDirection = -1.15f * (SWIM_SPEED/150);
+				swimDirection = -followSpeed(SWIM_SPEED);
 			}
 			else {
 				swimDirection = 0;
@@ -98,7 +102,109 @@ public class Shark {
 
 		animationTimer += delta;
 
-		setPosition(x - (SWIM_SPEED * delta), y + (swimDirection + rand));
+		prevX = x;
+		prevY = y;
+		x -= SWIM_SPEED * delta;
+		y += (swimDirection + rand) * DRIFT_RATE * delta;
+	}
+
+	/******************************************************************
+	 * Randomly flips the drift of a shark when it changes direction
+	 * compared to the previous step.
+	 *
+	 * @param prevRand float representing the drift of the previous step
+	 * @param rand     float representing the drift of this step
+	 * @param random   GameRandom that the flip rolls are drawn from
+	 * @return float representing the drift to remember for the next step
+	 ******************************************************************/
+	static float flipDrift(float prevRand, float rand, GameRandom random) {
+		float r = rand;
+
+		if(prevRand < 0 && r > 0) {
+			r *= ((random.nextFlip() - 9.5f) <= 0.0f) ? -1f : 1f;
+		}
+		else if(prevRand > 0 && r < 0) {
+			r *= ((random.nextFlip() - 0.5f) >= 0.0f) ? -1f : 1f;
+		}
+
+		return r;
+	}
+
+	/******************************************************************
+	 * How fast sharks swim to the left for a difficulty setting.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 * @return float representing the swim speed in pixels per second
+	 ******************************************************************/
+	static float swimSpeed(float difficulty) {
+		return 1.25f * difficulty;
+	}
+
+	/******************************************************************
+	 * How far away a shark notices the diver and starts following it.
+	 *
+	 * @param swimSpeed float representing the swim speed of the shark
+	 * @return float representing the radius of the follow range
+	 ******************************************************************/
+	static float followRange(float swimSpeed) {
+		return 1.15f * (swimSpeed/3.25f);
+	}
+
+	/******************************************************************
+	 * How fast a shark moves up or down while following the diver.
+	 *
+	 * @param swimSpeed float representing the swim speed of the shark
+	 * @return float representing the vertical drift towards the diver
+	 ******************************************************************/
+	static float followSpeed(float swimSpeed) {
+		return 1.15f * (swimSpeed/150);
+	}
+
+	/******************************************************************
+	 * The smallest x-position a shark can have and still touch the diver,
+	 * either by colliding with it or by having it in follow range. Sharks
+	 * further left can be skipped.
+	 *
+	 * @param diver the diver being checked against
+	 * @return float representing the left edge of the interaction window
+	 ******************************************************************/
+	static float minInteractionX(Diver diver) {
+		return diver.getCollisionRect().x - COLLISION_WIDTH;
+	}
+
+	/******************************************************************
+	 * The largest x-position a shark can have and still touch the diver,
+	 * either by colliding with it or by having it in follow range. Sharks
+	 * further right can be skipped.
+	 *
+	 * @param diver       the diver being checked against
+	 * @param followRange float representing the follow range of the sharks
+	 * @return float representing the right edge of the interaction window
+	 ******************************************************************/
+	static float maxInteractionX(Diver diver, float followRange) {
+		Rectangle diverRect = diver.getCollisionRect();
+		return diverRect.x + diverRect.width + Math.max(0, followRange - (COLLISION_WIDTH / 2));
+	}
+
+	/******************************************************************
+	 * Getter method for the follow range of the shark.
+	 *
+	 * @return float representing the radius of the follow range
+	 ******************************************************************/
+	public float getFollowRange() {
+		return this.sharkFollowRange;
+	}
+
+	/******************************************************************
+	 * Clears the state of the shark so it can be spawned again from the
+	 * pool as if it was new.
+	 ******************************************************************/
+	@Override
+	public void reset() {
+		prevRand = 0;
+		hasPrevRand = false;
+		animationTimer = 0;
+		setPosition(0, 0);
 	}
 
 	/******************************************************************
@@ -115,7 +221,6 @@ public class Shark {
 	 *
 	 * @return float representing the y-position of the shark
 	 ******************************************************************/
-	@SuppressWarnings("unused")
 	public float getY() {
 		return this.y;
 	}
@@ -141,13 +246,16 @@ public class Shark {
 	/******************************************************************
 	 * Draws the shark onto the screen
 	 *
-	 * @param batch SpriteBatch that will draw the shark onto the screen
+	 * @param batch         SpriteBatch that will draw the shark onto the screen
+	 * @param swimAnimation Animation holding the frames of the shark
+	 * @param alpha         float between 0 and 1 representing how far the
+	 *                      frame is between the last two simulation steps
 	 ******************************************************************/
-	public void draw(SpriteBatch batch) {
+	public void draw(SpriteBatch batch, Animation swimAnimation, float alpha) {
 		TextureRegion sharkTexture = swimAnimation.getKeyFrame(animationTimer);
 
-		float textureX = collisionRect.x - 2;
-		float textureY = collisionRect.y - 32;
+		float textureX = prevX + (x - prevX) * alpha - TEXTURE_OFFSET_X;
+		float textureY = prevY + (y - prevY) * alpha - TEXTURE_OFFSET_Y;
 
 		batch.draw(sharkTexture, textureX, textureY);
 	}
@@ -158,16 +266,16 @@ public class Shark {
 	 * @param shapeRenderer ShapeRenderer that draws the collision rectangle
 	 ******************************************************************/
 	public void drawDebug(ShapeRenderer shapeRenderer) {
-		shapeRenderer.rect(collisionRect.x, collisionRect.y,
-				collisionRect.width, collisionRect.height);
+		shapeRenderer.rect(x, y, COLLISION_WIDTH, COLLISION_HEIGHT);
 
-		float sharkCenterX = collisionRect.x + (COLLISION_WIDTH / 2);
-		float sharkCenterY = collisionRect.y + (COLLISION_HEIGHT / 2);
+		float sharkCenterX = x + (COLLISION_WIDTH / 2);
+		float sharkCenterY = y + (COLLISION_HEIGHT / 2);
 		shapeRenderer.arc(sharkCenterX, sharkCenterY, sharkFollowRange, 90, 180);
 	}
 
 	/******************************************************************
-	 * Sets the position of the shark and its collision rectangle
+	 * Places the shark at the given position without blending from where
+	 * it was before, e.g. when it's taken from the pool for a new spawn.
 	 *
 	 * @param x the value to be used to set the x-position of the shark
 	 * @param y the value to be used to set the y-position of the shark
@@ -175,21 +283,19 @@ public class Shark {
 	public void setPosition(float x, float y) {
 		this.x = x;
 		this.y = y;
-		updateCollisionRect();
+		this.prevX = x;
+		this.prevY = y;
 	}
 
 	/******************************************************************
-	 * Checks whether the shark's rectangle has collided with the diver's
-	 * collision rectangle.
+	 * Checks whether the shark's collision rectangle has collided with the
+	 * diver's collision rectangle.
 	 *
 	 * @param diver the object to be checked for a collision.
 	 * @return boolean representing whether a collision has happened or not
 	 ******************************************************************/
 	public boolean hasCollidedWithDiver(Diver diver) {
-
-		Rectangle diverCollisionRect = diver.getCollisionRect();
-
-		return Intersector.overlaps(diverCollisionRect, this.collisionRect);
+		return diver.overlapsRect(x, y, COLLISION_WIDTH, COLLISION_HEIGHT);
 	}
 
 	/******************************************************************
@@ -201,23 +307,15 @@ public class Shark {
 	public boolean diverInRange(Diver diver) {
 
 		boolean result = false;
-		float sharkCenterX = collisionRect.x + (COLLISION_WIDTH / 2);
-		float sharkCenterY = collisionRect.y + (COLLISION_HEIGHT / 2);
+		float sharkCenterX = x + (COLLISION_WIDTH / 2);
+		float sharkCenterY = y + (COLLISION_HEIGHT / 2);
 
 		if(sharkCenterX > diver.getX())
 		{
-			result = Intersector.overlaps(new Circle(sharkCenterX, sharkCenterY, sharkFollowRange),
-					diver.getCollisionRect());
+			result = diver.overlapsCircle(sharkCenterX, sharkCenterY, sharkFollowRange);
 		}
 		return result;
 	}
 
-	/******************************************************************
-	 * Sets the collision rectangles position to the shark's position
-	 ******************************************************************/
-	private void updateCollisionRect() {
-		collisionRect.setPosition(x, y);
-	}
-
 
 }
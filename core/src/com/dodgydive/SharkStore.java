@@ -0,0 +1,118 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+/******************************************************************
+ * Holds the sharks of a game session. Sharks are always spawned at
+ * the right edge and swim left at the same speed, so they are kept in
+ * spawn order: the oldest shark is the left-most one and the newest
+ * shark is the right-most one.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public interface SharkStore {
+
+	/******************************************************************
+	 * Updates the position of every shark by one simulation step.
+	 *
+	 * @param delta  float representing the length of the step in seconds
+	 * @param diver  the diver the sharks will follow if it's in range
+	 * @param random GameRandom that the random drift of the sharks is drawn from
+	 ******************************************************************/
+	void update(float delta, Diver diver, GameRandom random);
+
+	/******************************************************************
+	 * Spawns a new shark, which becomes the newest shark.
+	 *
+	 * @param x float representing the x-position of the new shark
+	 * @param y float representing the y-position of the new shark
+	 ******************************************************************/
+	void add(float x, float y);
+
+	/******************************************************************
+	 * Removes the oldest (left-most) shark.
+	 ******************************************************************/
+	void removeOldest();
+
+	/******************************************************************
+	 * Getter method for the number of sharks.
+	 *
+	 * @return int representing how many sharks are in the store
+	 ******************************************************************/
+	int size();
+
+	/******************************************************************
+	 * Getter method for the x-position of the oldest shark.
+	 *
+	 * @return float representing the x-position of the left-most shark
+	 ******************************************************************/
+	float getOldestX();
+
+	/******************************************************************
+	 * Getter method for the x-position of the newest shark.
+	 *
+	 * @return float representing the x-position of the right-most shark
+	 ******************************************************************/
+	float getNewestX();
+
+	/******************************************************************
+	 * Getter method for the x-position of a shark's collision rectangle.
+	 * Sharks are numbered from the oldest (left-most) one at 0.
+	 *
+	 * @param index int between 0 and size() - 1
+	 * @return float representing the x-position of the shark
+	 ******************************************************************/
+	float getX(int index);
+
+	/******************************************************************
+	 * Getter method for the y-position of a shark's collision rectangle.
+	 * Sharks are numbered from the oldest (left-most) one at 0.
+	 *
+	 * @param index int between 0 and size() - 1
+	 * @return float representing the y-position of the shark
+	 ******************************************************************/
+	float getY(int index);
+
+	/******************************************************************
+	 * Checks whether any of the sharks has collided with the diver.
+	 *
+	 * @param diver the object to be checked for a collision
+	 * @return boolean representing whether a collision has happened or not
+	 ******************************************************************/
+	boolean hasCollidedWithDiver(Diver diver);
+
+	/******************************************************************
+	 * Counts the sharks whose tail (the right edge of their collision
+	 * rectangle) crossed a vertical line during the last step, and that
+	 * were between minY and maxY when they crossed it.
+	 *
+	 * @param lineX    float representing the x-position of the line
+	 * @param distance float representing how far the sharks swam in the step
+	 * @param minY     float representing the bottom of the height range
+	 * @param maxY     float representing the top of the height range
+	 * @return int representing the number of sharks that crossed the line
+	 ******************************************************************/
+	int countCrossing(float lineX, float distance, float minY, float maxY);
+
+	/******************************************************************
+	 * Draws all the sharks onto the screen.
+	 *
+	 * @param batch         SpriteBatch that will draw the sharks onto the screen
+	 * @param swimAnimation Animation holding the frames of the shark
+	 * @param alpha         float between 0 and 1 representing how far the
+	 *                      frame is between the last two simulation steps
+	 ******************************************************************/
+	void draw(SpriteBatch batch, Animation swimAnimation, float alpha);
+
+	/******************************************************************
+	 * Renders the debug collision rectangle and follow range of every shark.
+	 *
+	 * @param shapeRenderer ShapeRenderer that draws the debug shapes
+	 ******************************************************************/
+	void drawDebug(ShapeRenderer shapeRenderer);
+}
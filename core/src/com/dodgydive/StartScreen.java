@@ -43,20 +43,41 @@ public class StartScreen extends ScreenAdapter {
 	}
 
 	/******************************************************************
-	 * Draws all of the relevant assets on the screen. A table is used
-	 * to make sure the alignment of the assets is consistent.
+	 * Hands input to the title stage, building it the first time. The
+	 * buttons never change, so nothing else needs refreshing.
 	 ******************************************************************/
 	@Override
 	public void show() {
 		super.show();
 
-		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
+		if(stage == null) {
+			buildStage();
+		}
+
 		Gdx.input.setInputProcessor(stage);
+	}
+
+	/******************************************************************
+	 * Takes input away from the title buttons, so a tap meant for the
+	 * next screen can't start another screen from here.
+	 ******************************************************************/
+	@Override
+	public void hide() {
+		super.hide();
+		Gdx.input.setInputProcessor(null);
+	}
+
+	/******************************************************************
+	 * Builds the stage with all of the relevant assets. A table is used
+	 * to make sure the alignment of the assets is consistent.
+	 ******************************************************************/
+	private void buildStage() {
+		stage = new Stage(new StretchViewport(WORLD_WIDTH, WORLD_HEIGHT));
 
 		Table table = new Table();
 		table.setFillParent(true);
 
-		TextureAtlas textureAtlas = dodgyDiveGame.getAssetManager().get("dodgy_dive_assets.atlas");
+		TextureAtlas textureAtlas = dodgyDiveGame.getAssets().getAtlas();
 
 		TextureRegion backgroundTexture = textureAtlas.findRegion("title_background");
 		Image background = new Image(backgroundTexture);
@@ -72,8 +93,7 @@ public class StartScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new SettingsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showSettingsScreen();
 			}
 		});
 
@@ -86,8 +106,7 @@ public class StartScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new ScoreboardScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showScoreboardScreen();
 			}
 		});
 
@@ -100,8 +119,7 @@ public class StartScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new CreditsScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.showCreditsScreen();
 			}
 		});
 
@@ -118,8 +136,7 @@ public class StartScreen extends ScreenAdapter {
 			@Override
 			public void tap(InputEvent event, float x, float y, int count, int button) {
 				super.tap(event, x, y, count, button);
-				dodgyDiveGame.setScreen(new GameScreen(dodgyDiveGame));
-				dispose();
+				dodgyDiveGame.startGame();
 			}
 		});
 	}
@@ -153,7 +170,10 @@ public class StartScreen extends ScreenAdapter {
 	@Override
 	public void dispose() {
 		super.dispose();
-		stage.dispose();
+
+		if(stage != null) {
+			stage.dispose();
+		}
 	}
 
 	/******************************************************************
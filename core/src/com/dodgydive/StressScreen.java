@@ -0,0 +1,146 @@
+package com.dodgydive;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.viewport.StretchViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/******************************************************************
+ * Class that runs a StressTest in the game window. The session is
+ * drawn the same way GameScreen draws a game, so the draw times in the
+ * report are those of the real game. Once every step has been
+ * measured, the report is written to a CSV file and the app exits.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class StressScreen extends ScreenAdapter {
+	private final DodgyDiveGame dodgyDiveGame;
+	private final StressTest stressTest;
+	private final FileHandle reportFile;
+	private OrthographicCamera camera;
+	private Viewport viewport;
+	private SpriteBatch batch;
+	private TextureRegion background;
+	private Animation diverAnimation;
+	private Animation sharkAnimation;
+	private HudText stepText;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param dodgyDiveGame DodgyDiveGame holding the assets
+	 * @param stressTest    StressTest to run
+	 * @param reportFile    FileHandle the CSV report is written to
+	 ******************************************************************/
+	public StressScreen(DodgyDiveGame dodgyDiveGame, StressTest stressTest, FileHandle reportFile) {
+		this.dodgyDiveGame = dodgyDiveGame;
+		this.stressTest = stressTest;
+		this.reportFile = reportFile;
+	}
+
+	/******************************************************************
+	 * Sets up the camera and batch, and looks up what the world is
+	 * drawn with.
+	 ******************************************************************/
+	@Override
+	public void show() {
+		super.show();
+		GameWorld world = stressTest.getWorld();
+
+		camera = new OrthographicCamera();
+		camera.position.set(world.getWidth() / 2, world.getHeight() / 2, 0);
+		camera.update();
+		viewport = new StretchViewport(world.getWidth(), world.getHeight(), camera);
+		batch = new SpriteBatch();
+
+		background = dodgyDiveGame.getAssets().getAtlas().findRegion(GameSettings.DEFAULT_BACKGROUND);
+		AnimationRegistry animations = dodgyDiveGame.getAnimations();
+		diverAnimation = animations.get(GameSettings.DEFAULT_DIVER_COSTUME, Diver.TILE_WIDTH, Diver.TILE_HEIGHT, Diver.FRAME_DURATION);
+		sharkAnimation = animations.get("shark", Shark.TILE_WIDTH, Shark.TILE_HEIGHT, Shark.FRAME_DURATION);
+
+		BitmapFont debugFont = dodgyDiveGame.getAssetManager().get(GameAssets.DEBUG_FONT);
+		stepText = new HudText(debugFont, 0, Align.left);
+	}
+
+	/******************************************************************
+	 * Keeps the viewport the size of the window.
+	 ******************************************************************/
+	@Override
+	public void resize(int width, int height) {
+		super.resize(width, height);
+		viewport.update(width, height, true);
+	}
+
+	/******************************************************************
+	 * Updates and draws the session, timing both, and writes the report
+	 * once the test is done.
+	 ******************************************************************/
+	@Override
+	public void render(float delta) {
+		super.render(delta);
+
+		long updateNanos = stressTest.update(delta);
+
+		long drawStart = System.nanoTime();
+		draw();
+		long drawNanos = System.nanoTime() - drawStart;
+
+		stressTest.recordFrame(Gdx.graphics.getRawDeltaTime(), updateNanos, drawNanos);
+
+		if(stressTest.isFinished()) {
+			reportFile.writeString(stressTest.getCsv(), false);
+			Gdx.app.log("StressScreen", "Report written to " + reportFile.path() + "\n" + stressTest.getCsv());
+			Gdx.app.exit();
+		}
+	}
+
+	/******************************************************************
+	 * Cleans up all of the disposable resources when the screen is no
+	 * longer in use.
+	 ******************************************************************/
+	@Override
+	public void dispose() {
+		super.dispose();
+
+		if(batch != null) {
+			batch.dispose();
+		}
+	}
+
+	/******************************************************************
+	 * Draws the session the same way GameScreen does, with the current
+	 * shark count in the corner.
+	 ******************************************************************/
+	private void draw() {
+		GameWorld world = stressTest.getWorld();
+		float alpha = world.getAlpha();
+
+		Gdx.gl.glClearColor(Color.BLACK.r, Color.BLACK.g, Color.BLACK.b, Color.BLACK.a);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		batch.setProjectionMatrix(camera.projection);
+		batch.setTransformMatrix(camera.view);
+		batch.begin();
+		batch.draw(background, 0, 0, world.getWidth(), world.getHeight());
+		world.getDiver().draw(batch, diverAnimation, alpha);
+		world.getSharks().draw(batch, sharkAnimation, alpha);
+
+		stepText.edit().append("Sharks on screen: ").append(stressTest.getSharksOnScreen())
+				.append("\nSharks alive: ").append(world.getSharks().size())
+				.append("\nFPS: ").append(Gdx.graphics.getFramesPerSecond());
+		stepText.draw(batch, 12, world.getHeight() - 12);
+		batch.end();
+	}
+}
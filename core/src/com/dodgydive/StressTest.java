@@ -0,0 +1,231 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Class that finds out how many sharks the game can handle. It runs a
+ * session where the diver can't die and is kept on screen by a
+ * HoverAutopilot. The number of sharks on screen is ramped up in
+ * steps. Each step is first warmed up for as long as a shark takes to
+ * swim across the world (and at least MIN_WARMUP_SECONDS), so every
+ * shark left from the step before has been replaced at the new
+ * spacing. Then it's measured for MEASURE_SECONDS.
+ *
+ * <p>For every step, a CSV row records:
+ * <ul>
+ * <li>the sharks on screen, the sharks alive, and whether the sharks
+ *     inside the world really came to the number asked for</li>
+ * <li>the number of frames measured</li>
+ * <li>the mean update and draw times</li>
+ * <li>the 50th, 95th and 99th percentile frame times</li>
+ * <li>the allocation rate and the garbage collections</li>
+ * </ul>
+ * Allocation and GC numbers come from the platform's RuntimeStats and
+ * are left empty when it can't provide them. The frame count is every
+ * frame of the step, while the times are worked out from the last
+ * MEASURE_SECONDS * MAX_FRAME_RATE of them, which is all of them
+ * unless the frame rate goes over MAX_FRAME_RATE.
+ *
+ * <p>The steps go by simulated time, so a headless run that feeds
+ * update() a fixed delta measures the same steps as a run in a window.
+ *
+ * <p>Usage: every frame, call update() with the frame's delta, draw
+ * the world (if there is a window), then call recordFrame() with the
+ * timings, until isFinished() returns true.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class StressTest {
+	public static final int[] DEFAULT_SHARK_COUNTS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+	public static final String CSV_HEADER = "sharks_on_screen,sharks_alive,target_reached,frames,update_mean_ms,"
+			+ "draw_mean_ms,frame_p50_ms,frame_p95_ms,frame_p99_ms,alloc_kb_per_s,gc_count";
+	private static final float MIN_WARMUP_SECONDS = 3f;
+	private static final float MEASURE_SECONDS = 5f;
+	private static final int MAX_FRAME_RATE = 10000;
+	private final GameWorld world;
+	private final int[] sharkCounts;
+	private final RuntimeStats runtimeStats;
+	private final float warmupSeconds;
+	private final FrameStats frameStats = new FrameStats((int) MEASURE_SECONDS * MAX_FRAME_RATE);
+	private final StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+	private int step = 0;
+	private int frames = 0;
+	private float stepTime = 0;
+	private boolean measuring = false;
+	private boolean finished = false;
+	private long allocatedAtStart;
+	private long gcCountAtStart;
+
+	/******************************************************************
+	 * Constructor method for the class. Sets up the session with the
+	 * first shark count.
+	 *
+	 * @param worldWidth   float representing the width of the playable area
+	 * @param worldHeight  float representing the height of the playable area
+	 * @param difficulty   float representing the difficulty setting of the game
+	 * @param sharks       SharkStore that will hold the sharks of the session
+	 * @param seed         long that the session's random numbers are drawn from
+	 * @param sharkCounts  int[] of the sharks on screen for each step
+	 * @param runtimeStats RuntimeStats the allocations and collections are read from
+	 ******************************************************************/
+	public StressTest(float worldWidth, float worldHeight, float difficulty, SharkStore sharks, long seed,
+			int[] sharkCounts, RuntimeStats runtimeStats) {
+		this.sharkCounts = sharkCounts.clone();
+		this.runtimeStats = runtimeStats;
+		this.warmupSeconds = Math.max(MIN_WARMUP_SECONDS, (worldWidth + Shark.TILE_WIDTH) / Shark.swimSpeed(difficulty));
+
+		world = new GameWorld(worldWidth, worldHeight, difficulty, null, sharks, new GameRandom(seed));
+		world.setInput(new HoverAutopilot(world));
+		world.setInvulnerable(true);
+		world.setSharksOnScreen(this.sharkCounts[0]);
+	}
+
+	/******************************************************************
+	 * Advances the session by a frame.
+	 *
+	 * @param delta float representing the simulated time of the frame
+	 * @return long representing the nanoseconds spent updating the world
+	 ******************************************************************/
+	public long update(float delta) {
+		long start = System.nanoTime();
+		world.update(delta);
+		long updateNanos = System.nanoTime() - start;
+
+		stepTime += delta;
+		return updateNanos;
+	}
+
+	/******************************************************************
+	 * Records the timings of the frame that was just updated, and moves
+	 * on to the next step once the current one has been measured long
+	 * enough.
+	 *
+	 * @param frameSeconds float representing how long the whole frame took
+	 * @param updateNanos  long representing the time spent updating, as
+	 *                     returned by update()
+	 * @param drawNanos    long representing the time spent drawing
+	 ******************************************************************/
+	public void recordFrame(float frameSeconds, long updateNanos, long drawNanos) {
+		if(finished) {
+			return;
+		}
+
+		if(!measuring) {
+			if(stepTime >= warmupSeconds) {
+				measuring = true;
+				stepTime = 0;
+				frameStats.reset();
+				frames = 0;
+				allocatedAtStart = runtimeStats.getAllocatedBytes();
+				gcCountAtStart = runtimeStats.getGcCount();
+			}
+			return;
+		}
+
+		frameStats.record(frameSeconds, updateNanos, drawNanos);
+		frames++;
+
+		if(stepTime >= MEASURE_SECONDS) {
+			finishStep();
+		}
+	}
+
+	/******************************************************************
+	 * Checks whether every step has been measured.
+	 *
+	 * @return boolean representing whether the test is done
+	 ******************************************************************/
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/******************************************************************
+	 * Getter method for the session being stressed, so it can be drawn.
+	 *
+	 * @return GameWorld of the session
+	 ******************************************************************/
+	public GameWorld getWorld() {
+		return this.world;
+	}
+
+	/******************************************************************
+	 * Getter method for the number of sharks on screen in the current step.
+	 *
+	 * @return int representing the number of sharks on screen
+	 ******************************************************************/
+	public int getSharksOnScreen() {
+		return sharkCounts[Math.min(step, sharkCounts.length - 1)];
+	}
+
+	/******************************************************************
+	 * Getter method for the results so far, one CSV row per finished
+	 * step under a header row.
+	 *
+	 * @return String holding the CSV
+	 ******************************************************************/
+	public String getCsv() {
+		return csv.toString();
+	}
+
+	/******************************************************************
+	 * Counts the sharks inside the width of the world. Sharks that have
+	 * swum past the left edge but aren't removed yet aren't counted.
+	 ******************************************************************/
+	private int countSharksInWorld() {
+		SharkStore sharks = world.getSharks();
+		int count = 0;
+
+		for(int i = 0; i < sharks.size(); i++) {
+			float x = sharks.getX(i);
+
+			if(x >= 0 && x < world.getWidth()) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/******************************************************************
+	 * Adds the current step's row to the CSV and moves to the next step.
+	 ******************************************************************/
+	private void finishStep() {
+		long allocated = runtimeStats.getAllocatedBytes();
+		long gcCount = runtimeStats.getGcCount();
+		frameStats.compute();
+
+		csv.append(sharkCounts[step]).append(',')
+				.append(world.getSharks().size()).append(',')
+				.append(countSharksInWorld() >= sharkCounts[step] - 1 ? "yes" : "no").append(',')
+				.append(frames).append(',')
+				.append(frameStats.getMeanUpdateMillis()).append(',')
+				.append(frameStats.getMeanDrawMillis()).append(',')
+				.append(frameStats.getP50()).append(',')
+				.append(frameStats.getP95()).append(',')
+				.append(frameStats.getP99()).append(',');
+
+		if(allocated >= 0 && allocatedAtStart >= 0) {
+			csv.append((allocated - allocatedAtStart) / 1024f / stepTime);
+		}
+
+		csv.append(',');
+
+		if(gcCount >= 0 && gcCountAtStart >= 0) {
+			csv.append(gcCount - gcCountAtStart);
+		}
+
+		csv.append('\n');
+
+		step++;
+		measuring = false;
+		stepTime = 0;
+
+		if(step == sharkCounts.length) {
+			finished = true;
+		}
+		else {
+			world.setSharksOnScreen(sharkCounts[step]);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.dodgydive;
+
+/******************************************************************
+ * Scoring rule that gives points for every second the diver stays
+ * alive, with a bonus for harder difficulties. The bonus tier is
+ * looked up once when the rule is created, since the difficulty can't
+ * change during a game. Sessions without a difficulty bonus (see
+ * GameWorld.setDifficultyBonus) only earn BASE_POINTS.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class TimeScoringRule implements ScoringRule {
+	private static final float SCORE_INTERVAL = 1f;
+	private static final int BASE_POINTS = 10;
+	private static final float[] TIER_DIFFICULTY = {150, 250, 350, 450};
+	private static final int[] TIER_BONUS = {5, 10, 15, 20};
+	private final int pointsPerInterval;
+	private float scoreTimer = 0;
+
+	/******************************************************************
+	 * Constructor method for the class.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 ******************************************************************/
+	public TimeScoringRule(float difficulty) {
+		this.pointsPerInterval = BASE_POINTS + bonusFor(difficulty);
+	}
+
+	@Override
+	public int score(GameWorld world, float delta) {
+		int interval = world.hasDifficultyBonus() ? pointsPerInterval : BASE_POINTS;
+		int points = 0;
+		scoreTimer += delta;
+
+		while(scoreTimer >= SCORE_INTERVAL) {
+			scoreTimer -= SCORE_INTERVAL;
+			points += interval;
+		}
+
+		return points;
+	}
+
+	/******************************************************************
+	 * Finds the bonus of the highest tier the difficulty reaches.
+	 *
+	 * @param difficulty float representing the difficulty setting of the game
+	 * @return int representing the bonus added every second
+	 ******************************************************************/
+	static int bonusFor(float difficulty) {
+		int bonus = 0;
+
+		for(int i = 0; i < TIER_DIFFICULTY.length; i++) {
+			if(difficulty >= TIER_DIFFICULTY[i]) {
+				bonus = TIER_BONUS[i];
+			}
+		}
+
+		return bonus;
+	}
+}
@@ -0,0 +1,217 @@
+package com.dodgydive.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.tools.texturepacker.TextureUnpacker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/******************************************************************
+ * Build-time tool that repacks the game's atlas with TexturePacker and
+ * reports how many texture binds each screen costs with it.
+ *
+ * <p>The project only has the packed atlas, so its regions are first
+ * unpacked into single images. Each image is then sorted into a group
+ * folder by GROUP_RULES, and every group is packed onto its own pages:
+ *
+ * <ul>
+ * <li>sprites: the diver, sharks, buttons and widgets, plus the title
+ *     background so the start screen draws from one page</li>
+ * <li>backgrounds: the other full-screen backgrounds, one per page,
+ *     so each can be loaded and unloaded on its own</li>
+ * </ul>
+ *
+ * <p>The report lists the pages of the current atlas and of the
+ * repacked one, with how much of each page is left empty. It also
+ * lists the texture binds each screen needs. A SpriteBatch has to
+ * flush and bind a texture every time the next region it draws is on
+ * another page, so the binds are counted by walking through the
+ * regions in the order each screen draws them. Fonts have their own
+ * textures and add one bind each on top of these numbers.
+ *
+ * <p>Usage: AtlasRepacker [assetsDir] [outputDir]
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class AtlasRepacker {
+	private static final String ATLAS_NAME = "dodgy_dive_assets";
+	private static final String DEFAULT_GROUP = "sprites";
+
+	/* Region name and the group it's packed with, regions not listed go in DEFAULT_GROUP */
+	private static final String[][] GROUP_RULES = {
+			{"background", "backgrounds"},
+			{"background_radioactive", "backgrounds"},
+			{"settings_background", "backgrounds"},
+			{"scores_background", "backgrounds"},
+			{"credits_screen", "backgrounds"},
+	};
+
+	/* Screen name followed by the regions it draws, in the order it draws them */
+	private static final String[][] SCREENS = {
+			{"start", "title_background", "settings", "scoreboard", "credits"},
+			{"settings", "settings_background", "home", "scoreboard", "credits", "checkbox", "checkbox_checked", "slider", "slider_knob"},
+			{"scoreboard", "scores_background", "settings", "home", "credits"},
+			{"credits", "credits_screen", "settings", "home", "scoreboard"},
+			{"game", "background", "diver", "shark"},
+			{"game (radioactive)", "background_radioactive", "diver_alt", "shark"},
+	};
+
+	public static void main(String[] args) throws IOException {
+		File assetsDir = new File(args.length > 0 ? args[0] : "../android/assets");
+		File outputDir = new File(args.length > 1 ? args[1] : "build/atlas");
+		File unpackedDir = new File(outputDir, "unpacked");
+		File groupedDir = new File(outputDir, "grouped");
+		File packedDir = new File(outputDir, "packed");
+
+		new FileHandle(outputDir).deleteDirectory();
+
+		FileHandle atlasFile = new FileHandle(new File(assetsDir, ATLAS_NAME + ".atlas"));
+		TextureAtlas.TextureAtlasData current = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+		new TextureUnpacker().splitAtlas(current, unpackedDir.getPath());
+
+		for(File image : unpackedDir.listFiles()) {
+			String name = image.getName().substring(0, image.getName().lastIndexOf('.'));
+			FileHandle groupDir = new FileHandle(new File(groupedDir, groupOf(name)));
+			groupDir.mkdirs();
+			new FileHandle(image).copyTo(groupDir);
+		}
+
+		TexturePacker.process(packerSettings(), groupedDir.getPath(), packedDir.getPath(), ATLAS_NAME);
+
+		FileHandle packedFile = new FileHandle(new File(packedDir, ATLAS_NAME + ".atlas"));
+		TextureAtlas.TextureAtlasData repacked = new TextureAtlas.TextureAtlasData(packedFile, packedFile.parent(), false);
+
+		StringWriter report = new StringWriter();
+		PrintWriter out = new PrintWriter(report);
+		out.println("Current atlas (" + atlasFile.path() + ")");
+		printReport(out, current);
+		out.println();
+		out.println("Repacked atlas (" + packedFile.path() + ")");
+		printReport(out, repacked);
+		out.flush();
+
+		new FileHandle(new File(outputDir, "atlas_report.txt")).writeString(report.toString(), false);
+		System.out.print(report);
+	}
+
+	/******************************************************************
+	 * Finds which group a region is packed with.
+	 ******************************************************************/
+	private static String groupOf(String regionName) {
+		for(String[] rule : GROUP_RULES) {
+			if(rule[0].equals(regionName)) {
+				return rule[1];
+			}
+		}
+
+		return DEFAULT_GROUP;
+	}
+
+	/******************************************************************
+	 * Settings matching how the current atlas was packed: nearest
+	 * filtering, no rotation or whitespace stripping, and pages up to
+	 * 2048 pixels so they load on every GLES2 device.
+	 ******************************************************************/
+	private static TexturePacker.Settings packerSettings() {
+		TexturePacker.Settings settings = new TexturePacker.Settings();
+		settings.maxWidth = 2048;
+		settings.maxHeight = 2048;
+		settings.pot = false;
+		settings.paddingX = 2;
+		settings.paddingY = 2;
+		settings.edgePadding = true;
+		settings.duplicatePadding = false;
+		settings.rotation = false;
+		settings.stripWhitespaceX = false;
+		settings.stripWhitespaceY = false;
+		settings.combineSubdirectories = false;
+		settings.flattenPaths = true;
+		settings.format = Pixmap.Format.RGBA8888;
+		settings.filterMin = Texture.TextureFilter.Nearest;
+		settings.filterMag = Texture.TextureFilter.Nearest;
+		return settings;
+	}
+
+	/******************************************************************
+	 * Prints the pages of an atlas with how much of each is empty, then
+	 * the texture binds of every screen.
+	 ******************************************************************/
+	private static void printReport(PrintWriter out, TextureAtlas.TextureAtlasData atlas) {
+		List<TextureAtlas.TextureAtlasData.Page> pages = new ArrayList<TextureAtlas.TextureAtlasData.Page>();
+		long totalArea = 0;
+		long totalWasted = 0;
+
+		for(TextureAtlas.TextureAtlasData.Page page : atlas.getPages()) {
+			pages.add(page);
+		}
+
+		out.println("  Pages: " + pages.size());
+
+		for(int i = 0; i < pages.size(); i++) {
+			TextureAtlas.TextureAtlasData.Page page = pages.get(i);
+			long area = (long) page.width * (long) page.height;
+			long used = 0;
+			int regions = 0;
+
+			for(TextureAtlas.TextureAtlasData.Region region : atlas.getRegions()) {
+				if(region.page == page) {
+					used += (long) region.width * region.height;
+					regions++;
+				}
+			}
+
+			totalArea += area;
+			totalWasted += area - used;
+			out.println(String.format(Locale.US, "  %d: %-32s %5.0fx%-5.0f %3d regions, %5.1f%% wasted",
+					i, page.textureFile.name(), page.width, page.height, regions, 100.0 * (area - used) / area));
+		}
+
+		out.println(String.format(Locale.US, "  Total: %.1f MB as RGBA8888, %.1f%% wasted",
+				totalArea * 4 / (1024.0 * 1024.0), 100.0 * totalWasted / totalArea));
+		out.println("  Texture binds per frame (atlas only):");
+
+		for(String[] screen : SCREENS) {
+			StringBuilder order = new StringBuilder();
+			TextureAtlas.TextureAtlasData.Page lastPage = null;
+			int binds = 0;
+
+			for(int i = 1; i < screen.length; i++) {
+				TextureAtlas.TextureAtlasData.Page page = pageOf(atlas, screen[i]);
+
+				if(page != lastPage) {
+					binds++;
+					lastPage = page;
+				}
+
+				order.append(i > 1 ? " " : "").append(page == null ? "?" : String.valueOf(pages.indexOf(page)));
+			}
+
+			out.println(String.format(Locale.US, "    %-20s %d (pages %s)", screen[0], binds, order));
+		}
+	}
+
+	/******************************************************************
+	 * Finds the page a region is on, or null if the atlas doesn't have it.
+	 ******************************************************************/
+	private static TextureAtlas.TextureAtlasData.Page pageOf(TextureAtlas.TextureAtlasData atlas, String regionName) {
+		for(TextureAtlas.TextureAtlasData.Region region : atlas.getRegions()) {
+			if(region.name.equals(regionName)) {
+				return region.page;
+			}
+		}
+
+		return null;
+	}
+}
@@ -2,7 +2,13 @@ package com.dodgydive.desktop;
 
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
 import com.dodgydive.DodgyDiveGame;
+import com.dodgydive.GameSettings;
+import com.dodgydive.PooledSharkStore;
+import com.dodgydive.StressTest;
+
+import java.io.File;
 
 public class DesktopLauncher {
 	public static void main (String[] arg) {
@@ -11,6 +17,27 @@ public class DesktopLauncher {
 		// Set window width and height
 		config.width = 1920;
 		config.height = 1080;
-		new LwjglApplication(new DodgyDiveGame(), config);
+
+		DesktopRuntimeStats runtimeStats = new DesktopRuntimeStats();
+		DodgyDiveGame game = new DodgyDiveGame(runtimeStats);
+
+		// --stress [report.csv] runs the shark stress test instead of the game, without a frame cap
+		if(arg.length > 0 && arg[0].equals("--stress")) {
+			File report = new File(arg.length > 1 ? arg[1] : "stress_report.csv").getAbsoluteFile();
+			config.vSyncEnabled = false;
+			config.foregroundFPS = 0;
+			config.backgroundFPS = 0;
+
+			game.runStressTest(new StressTest(config.width, config.height, GameSettings.DEFAULT_DIFFICULTY,
+					new PooledSharkStore(GameSettings.DEFAULT_DIFFICULTY), 0L, StressTest.DEFAULT_SHARK_COUNTS, runtimeStats),
+					new FileHandle(report));
+		}
+
+		// --autopilot lets the bot play game after game, e.g. to soak test with the F3 overlay on
+		if(arg.length > 0 && arg[0].equals("--autopilot")) {
+			game.setAutopilot(true);
+		}
+
+		new LwjglApplication(game, config);
 	}
-}
\ No newline at end of file
+}
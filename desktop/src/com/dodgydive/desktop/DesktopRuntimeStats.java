@@ -0,0 +1,67 @@
+package com.dodgydive.desktop;
+
+import com.dodgydive.RuntimeStats;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/******************************************************************
+ * Heap and garbage collection numbers read from the JVM's management
+ * beans. The counts are summed over every collector, so young and old
+ * generation collections both show up. Allocations are counted per
+ * thread by HotSpot-based JVMs, and reported as -1 by others.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class DesktopRuntimeStats implements RuntimeStats {
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	@Override
+	public long getHeapUsed() {
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+	@Override
+	public long getHeapMax() {
+		return memory.getHeapMemoryUsage().getMax();
+	}
+
+	@Override
+	public long getGcCount() {
+		long count = 0;
+
+		for(int i = 0; i < collectors.size(); i++) {
+			count += Math.max(0, collectors.get(i).getCollectionCount());
+		}
+
+		return count;
+	}
+
+	@Override
+	public long getGcMillis() {
+		long millis = 0;
+
+		for(int i = 0; i < collectors.size(); i++) {
+			millis += Math.max(0, collectors.get(i).getCollectionTime());
+		}
+
+		return millis;
+	}
+
+	@Override
+	public long getAllocatedBytes() {
+		if(threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,80 @@
+package com.dodgydive.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.dodgydive.GameScreen;
+import com.dodgydive.GameWorld;
+import com.dodgydive.Replay;
+import com.dodgydive.ReplayPlayer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+/******************************************************************
+ * Plays back a Replay without a window by stepping GameWorld directly,
+ * and checks that it ends the same way, with the same score, after the
+ * same number of steps as the recorded game. Replays saved by the game
+ * can be used to see how a player died, or as a fixed workload when
+ * comparing how fast the simulation runs before and after a change.
+ *
+ * <p>Usage: ReplayLauncher [replayFile] [repeats]
+ *
+ * <p>The replay is played repeats times and the steps per second are
+ * printed. Exits with status 1 if any playback doesn't match the
+ * recording.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class ReplayLauncher {
+
+	private static final String[] ENDINGS = {"still alive", "left the screen", "eaten by a shark"};
+
+	public static void main(String[] arg) throws IOException {
+		File file = new File(arg.length > 0 ? arg[0] : GameScreen.LAST_REPLAY);
+		int repeats = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+
+		Replay replay = Replay.read(new FileHandle(file));
+		System.out.println(String.format(Locale.US, "%s: seed %d, difficulty %.0f, %d steps (%.1fs), score %d, %s",
+				file.getPath(), replay.getSeed(), replay.getDifficulty(), replay.getSteps(),
+				replay.getSteps() * GameWorld.STEP, replay.getScore(), ENDINGS[replay.getEnding()]));
+
+		long totalSteps = 0;
+		boolean matched = true;
+		long start = System.nanoTime();
+
+		for(int i = 0; i < repeats; i++) {
+			ReplayPlayer player = new ReplayPlayer(replay);
+			GameWorld world = replay.createWorld(player);
+
+			while(!world.isOver() && !player.isFinished()) {
+				world.step();
+			}
+
+			totalSteps += player.getStep();
+
+			byte ending = Replay.endingOf(world);
+
+			if(player.getStep() != replay.getSteps() || world.getScore() != replay.getScore()
+					|| ending != replay.getEnding()) {
+				System.out.println(String.format(Locale.US, "Playback %d diverged: %d steps, score %d, %s",
+						i, player.getStep(), world.getScore(), ENDINGS[ending]));
+				matched = false;
+			}
+			else if(i == 0) {
+				System.out.println("Playback matches the recording");
+			}
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.println(String.format(Locale.US, "%d playbacks in %.2fs (%.0f steps/s)",
+				repeats, seconds, totalSteps / seconds));
+
+		if(!matched) {
+			System.exit(1);
+		}
+	}
+}
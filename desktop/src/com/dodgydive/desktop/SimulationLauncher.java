@@ -0,0 +1,68 @@
+package com.dodgydive.desktop;
+
+import com.dodgydive.GameRandom;
+import com.dodgydive.GameWorld;
+import com.dodgydive.HoverAutopilot;
+import com.dodgydive.PackedSharkStore;
+import com.dodgydive.PooledSharkStore;
+import com.dodgydive.SharkStore;
+
+import java.util.Locale;
+
+/******************************************************************
+ * Runs game sessions without a window by stepping GameWorld directly.
+ * The diver is steered by a HoverAutopilot.
+ *
+ * <p>Usage: SimulationLauncher [sessions] [difficulty] [sharksOnScreen] [seed]
+ *
+ * <p>Session i is played with seed + i, so a run with the same arguments
+ * always gives the same results.
+ *
+ * <p>Above PACKED_STORE_THRESHOLD sharks on screen the sharks are kept
+ * in a PackedSharkStore instead of Shark objects.
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class SimulationLauncher {
+	private static final float WORLD_WIDTH = 1920;
+	private static final float WORLD_HEIGHT = 1080;
+	private static final float MAX_SESSION_TIME = 300f;
+	private static final int PACKED_STORE_THRESHOLD = 50;
+
+	public static void main(String[] arg) {
+		int sessions = arg.length > 0 ? Integer.parseInt(arg[0]) : 1000;
+		float difficulty = arg.length > 1 ? Float.parseFloat(arg[1]) : 175f;
+		int sharksOnScreen = arg.length > 2 ? Integer.parseInt(arg[2]) : 10;
+		long seed = arg.length > 3 ? Long.parseLong(arg[3]) : 0L;
+
+		long totalScore = 0;
+		long totalSteps = 0;
+		long start = System.nanoTime();
+
+		for(int i = 0; i < sessions; i++) {
+			SharkStore sharks = sharksOnScreen > PACKED_STORE_THRESHOLD
+					? new PackedSharkStore(difficulty, sharksOnScreen + 2)
+					: new PooledSharkStore(difficulty);
+			GameWorld world = new GameWorld(WORLD_WIDTH, WORLD_HEIGHT, difficulty, null, sharks, new GameRandom(seed + i));
+			world.setSharksOnScreen(sharksOnScreen);
+			world.setInput(new HoverAutopilot(world));
+
+			float time = 0;
+			while(!world.isOver() && time < MAX_SESSION_TIME) {
+				world.step();
+				time += GameWorld.STEP;
+				totalSteps++;
+			}
+
+			totalScore += world.getScore();
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.println(String.format(Locale.US, "%d sessions in %.2fs (%.1f sessions/s, %.0f steps/s), mean score %.1f",
+				sessions, seconds, sessions / seconds, totalSteps / seconds, (double) totalScore / sessions));
+	}
+}
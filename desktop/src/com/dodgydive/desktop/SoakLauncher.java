@@ -0,0 +1,145 @@
+package com.dodgydive.desktop;
+
+import com.dodgydive.DiverBot;
+import com.dodgydive.FrameStats;
+import com.dodgydive.GameRandom;
+import com.dodgydive.GameSettings;
+import com.dodgydive.GameWorld;
+import com.dodgydive.PooledSharkStore;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/******************************************************************
+ * Soak test that has a DiverBot play game after game without a window,
+ * as fast as the simulation runs, for a set number of minutes. Every
+ * game gets a new GameWorld like in the real game, so anything a
+ * session leaves behind adds up over the run.
+ *
+ * <p>Every interval a row is added to the CSV report with the games
+ * played, the steps per second, the median and 99th percentile step
+ * time over the last STEP_SAMPLES steps, the garbage collections and
+ * bytes allocated per step during the interval, and the heap in use.
+ * The heap is measured right after a System.gc() (which isn't counted
+ * in the other columns), so it's what is still reachable rather than
+ * however much garbage happens to be waiting. At the end the first and
+ * last intervals are compared, since steps getting slower or the heap
+ * growing over time is what a leak looks like. Run the desktop
+ * launcher with --autopilot to soak the game on screen instead.
+ *
+ * <p>Usage: SoakLauncher [minutes] [report.csv] [intervalSeconds] [difficulty] [seed]
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class SoakLauncher {
+	private static final float WORLD_WIDTH = 1920;
+	private static final float WORLD_HEIGHT = 1080;
+	private static final float MAX_GAME_TIME = 600f;
+	private static final int STEP_SAMPLES = 100000;
+	private static final long BYTES_PER_MB = 1024 * 1024;
+
+	public static void main(String[] arg) throws IOException {
+		float minutes = arg.length > 0 ? Float.parseFloat(arg[0]) : 60f;
+		File report = new File(arg.length > 1 ? arg[1] : "soak_report.csv").getAbsoluteFile();
+		float interval = arg.length > 2 ? Float.parseFloat(arg[2]) : 60f;
+		float difficulty = arg.length > 3 ? Float.parseFloat(arg[3]) : GameSettings.DEFAULT_DIFFICULTY;
+		long seed = arg.length > 4 ? Long.parseLong(arg[4]) : 0L;
+
+		DesktopRuntimeStats runtimeStats = new DesktopRuntimeStats();
+		FrameStats stepStats = new FrameStats(STEP_SAMPLES);
+		PrintWriter csv = new PrintWriter(new FileWriter(report));
+		csv.println("elapsed_s,games,mean_score,steps_per_s,step_p50_us,step_p99_us,heap_used_mb,gc_count,gc_ms,bytes_per_step");
+		csv.flush();
+
+		long start = System.nanoTime();
+		long end = start + (long) (minutes * 60e9);
+		long intervalNanos = (long) (interval * 1e9);
+		long intervalStart = start;
+		long games = 0;
+		long intervalSteps = 0;
+		long intervalScore = 0;
+		long intervalGames = 0;
+		long gcCount = runtimeStats.getGcCount();
+		long gcMillis = runtimeStats.getGcMillis();
+		long allocated = runtimeStats.getAllocatedBytes();
+		double firstStepsPerSecond = -1;
+		long firstHeap = -1;
+		double lastStepsPerSecond = 0;
+		long lastHeap = 0;
+		long now = start;
+
+		while(now < end) {
+			GameWorld world = new GameWorld(WORLD_WIDTH, WORLD_HEIGHT, difficulty, null,
+					new PooledSharkStore(difficulty), new GameRandom(seed + games));
+			world.setInput(new DiverBot(world));
+			float time = 0;
+
+			while(!world.isOver() && time < MAX_GAME_TIME && now < end) {
+				long stepStart = System.nanoTime();
+				world.step();
+				now = System.nanoTime();
+				stepStats.record((now - stepStart) / 1e9f, now - stepStart, 0);
+				time += GameWorld.STEP;
+				intervalSteps++;
+
+				if(now - intervalStart >= intervalNanos) {
+					stepStats.compute();
+					double stepsPerSecond = intervalSteps / ((now - intervalStart) / 1e9);
+					long gcCountNow = runtimeStats.getGcCount();
+					long gcMillisNow = runtimeStats.getGcMillis();
+					long allocatedNow = runtimeStats.getAllocatedBytes();
+					System.gc();
+					long heap = runtimeStats.getHeapUsed();
+
+					csv.println(String.format(Locale.US, "%.0f,%d,%.1f,%.0f,%.2f,%.2f,%.1f,%d,%d,%.1f",
+							(now - start) / 1e9, games, intervalGames > 0 ? (double) intervalScore / intervalGames : 0.0,
+							stepsPerSecond, stepStats.getP50() * 1000, stepStats.getP99() * 1000,
+							(double) heap / BYTES_PER_MB, gcCountNow - gcCount, gcMillisNow - gcMillis,
+							(double) (allocatedNow - allocated) / intervalSteps));
+					csv.flush();
+
+					if(firstHeap < 0) {
+						firstStepsPerSecond = stepsPerSecond;
+						firstHeap = heap;
+					}
+
+					lastStepsPerSecond = stepsPerSecond;
+					lastHeap = heap;
+					gcCount = runtimeStats.getGcCount();
+					gcMillis = runtimeStats.getGcMillis();
+					allocated = runtimeStats.getAllocatedBytes();
+					intervalSteps = 0;
+					intervalScore = 0;
+					intervalGames = 0;
+					now = System.nanoTime();
+					intervalStart = now;
+				}
+			}
+
+			if(world.isOver() || time >= MAX_GAME_TIME) {
+				games++;
+				intervalGames++;
+				intervalScore += world.getScore();
+			}
+		}
+
+		csv.close();
+
+		System.out.println(String.format(Locale.US, "%d games in %.1f minutes", games, (now - start) / 60e9));
+
+		if(firstHeap >= 0) {
+			System.out.println(String.format(Locale.US, "Steps/s: %.0f in the first interval, %.0f in the last (%+.1f%%)",
+					firstStepsPerSecond, lastStepsPerSecond, 100 * (lastStepsPerSecond / firstStepsPerSecond - 1)));
+			System.out.println(String.format(Locale.US, "Heap used: %.1f MB after the first interval, %.1f MB after the last",
+					(double) firstHeap / BYTES_PER_MB, (double) lastHeap / BYTES_PER_MB));
+		}
+
+		System.out.println("Report written to " + report.getPath());
+	}
+}
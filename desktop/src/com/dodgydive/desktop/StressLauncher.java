@@ -0,0 +1,51 @@
+package com.dodgydive.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.dodgydive.GameSettings;
+import com.dodgydive.PackedSharkStore;
+import com.dodgydive.PooledSharkStore;
+import com.dodgydive.SharkStore;
+import com.dodgydive.StressTest;
+
+import java.io.File;
+
+/******************************************************************
+ * Runs the shark stress test without a window. The session is fed
+ * fixed frames of 1/fps seconds as fast as it can be updated, so the
+ * frame times in the report are the update times alone and the draw
+ * times are 0. Run the desktop launcher with --stress to measure
+ * drawing too.
+ *
+ * <p>Usage: StressLauncher [report.csv] [pooled|packed] [fps] [seed]
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class StressLauncher {
+	private static final float WORLD_WIDTH = 1920;
+	private static final float WORLD_HEIGHT = 1080;
+
+	public static void main(String[] arg) {
+		File report = new File(arg.length > 0 ? arg[0] : "stress_report_headless.csv").getAbsoluteFile();
+		boolean packed = arg.length > 1 && arg[1].equals("packed");
+		float delta = 1f / (arg.length > 2 ? Integer.parseInt(arg[2]) : 60);
+		long seed = arg.length > 3 ? Long.parseLong(arg[3]) : 0L;
+
+		float difficulty = GameSettings.DEFAULT_DIFFICULTY;
+		int maxSharks = StressTest.DEFAULT_SHARK_COUNTS[StressTest.DEFAULT_SHARK_COUNTS.length - 1];
+		SharkStore sharks = packed ? new PackedSharkStore(difficulty, maxSharks + 2) : new PooledSharkStore(difficulty);
+		StressTest stressTest = new StressTest(WORLD_WIDTH, WORLD_HEIGHT, difficulty, sharks, seed,
+				StressTest.DEFAULT_SHARK_COUNTS, new DesktopRuntimeStats());
+
+		while(!stressTest.isFinished()) {
+			long updateNanos = stressTest.update(delta);
+			stressTest.recordFrame(updateNanos / 1e9f, updateNanos, 0);
+		}
+
+		new FileHandle(report).writeString(stressTest.getCsv(), false);
+		System.out.print(stressTest.getCsv());
+		System.out.println("Report written to " + report.getPath());
+	}
+}
@@ -0,0 +1,248 @@
+package com.dodgydive.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/******************************************************************
+ * Build-time tool that writes GPU-compressed copies of the opaque atlas
+ * pages (the full-screen backgrounds) next to their PNGs:
+ *
+ * <ul>
+ * <li>name.etc1, an ETC1 texture for Android (about 1 MB instead of
+ *     8 MB for a 1920x1080 page)</li>
+ * <li>name.ktx, a DXT1 texture in a KTX container for desktop GPUs
+ *     (same size as ETC1)</li>
+ * </ul>
+ *
+ * <p>At runtime GameAssets picks the variant the GPU supports and falls
+ * back to the PNG. Pages with any transparent pixel are skipped, since
+ * neither format keeps alpha. Run it again whenever a background
+ * changes.
+ *
+ * <p>Usage: TextureCompressor [assetsDir] [atlas]
+ *
+ * @author      Damian Jimenez, jimenez.dmn@gmail.com
+ *              <br>Maurice Harris, maurice.harris@mavs.uta.edu
+ *              <br>Neunzo Vincent, neunzo.thomas@mavs.uta.edu
+ *              <br>Craig Lautenslager, craig.lautenslager@mavs.uta.edu
+ ******************************************************************/
+public class TextureCompressor {
+	private static final byte[] KTX_IDENTIFIER = {(byte) 0xAB, 'K', 'T', 'X', ' ', '1', '1', (byte) 0xBB, '\r', '\n', 0x1A, '\n'};
+	private static final int GL_COMPRESSED_RGB_S3TC_DXT1_EXT = 0x83F0;
+	private static final int GL_RGB = 0x1907;
+
+	public static void main(String[] args) throws IOException {
+		File assetsDir = new File(args.length > 0 ? args[0] : "../android/assets");
+		String atlasName = args.length > 1 ? args[1] : "dodgy_dive_assets.atlas";
+
+		GdxNativesLoader.load();
+
+		FileHandle atlasFile = new FileHandle(new File(assetsDir, atlasName));
+		TextureAtlas.TextureAtlasData atlasData = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+
+		for(TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+			FileHandle png = page.textureFile;
+			Pixmap pixmap = new Pixmap(png);
+
+			if(!isOpaque(pixmap)) {
+				System.out.println(png.name() + ": has transparency, skipped");
+				pixmap.dispose();
+				continue;
+			}
+
+			FileHandle etc1File = png.sibling(png.nameWithoutExtension() + ".etc1");
+			Pixmap rgb = toRGB888(pixmap);
+			ETC1.encodeImagePKM(rgb).write(etc1File);
+			rgb.dispose();
+
+			FileHandle ktxFile = png.sibling(png.nameWithoutExtension() + ".ktx");
+			writeDxt1Ktx(pixmap, ktxFile);
+
+			System.out.println(png.name() + ": " + (pixmap.getWidth() * pixmap.getHeight() * 4 / 1024) + " KB as "
+					+ page.format + ", " + (etc1File.length() / 1024) + " KB ETC1 (zipped), "
+					+ (ktxFile.length() / 1024) + " KB DXT1");
+			pixmap.dispose();
+		}
+	}
+
+	/******************************************************************
+	 * Checks whether every pixel of an image is fully opaque.
+	 ******************************************************************/
+	private static boolean isOpaque(Pixmap pixmap) {
+		if(pixmap.getFormat() == Pixmap.Format.RGB888 || pixmap.getFormat() == Pixmap.Format.RGB565) {
+			return true;
+		}
+
+		for(int y = 0; y < pixmap.getHeight(); y++) {
+			for(int x = 0; x < pixmap.getWidth(); x++) {
+				if((pixmap.getPixel(x, y) & 0xff) != 0xff) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/******************************************************************
+	 * Copies an image into an RGB888 pixmap, the format the ETC1 encoder
+	 * expects. Blending is a global Pixmap setting, so it's turned off
+	 * only for the copy and then set back to what it was.
+	 ******************************************************************/
+	private static Pixmap toRGB888(Pixmap pixmap) {
+		Pixmap rgb = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGB888);
+		Pixmap.Blending blending = Pixmap.getBlending();
+
+		try {
+			Pixmap.setBlending(Pixmap.Blending.None);
+			rgb.drawPixmap(pixmap, 0, 0);
+		}
+		finally {
+			Pixmap.setBlending(blending);
+		}
+
+		return rgb;
+	}
+
+	/******************************************************************
+	 * Encodes an image as DXT1 and writes it as a single-level KTX file
+	 * that KTXTextureData can load.
+	 ******************************************************************/
+	private static void writeDxt1Ktx(Pixmap pixmap, FileHandle file) throws IOException {
+		int width = pixmap.getWidth();
+		int height = pixmap.getHeight();
+		int blocksX = (width + 3) / 4;
+		int blocksY = (height + 3) / 4;
+		byte[] data = new byte[blocksX * blocksY * 8];
+		int[] block = new int[16];
+		int offset = 0;
+
+		for(int by = 0; by < blocksY; by++) {
+			for(int bx = 0; bx < blocksX; bx++) {
+				for(int i = 0; i < 16; i++) {
+					int x = Math.min(bx * 4 + (i & 3), width - 1);
+					int y = Math.min(by * 4 + (i >> 2), height - 1);
+					block[i] = pixmap.getPixel(x, y) >>> 8;
+				}
+
+				encodeDxt1Block(block, data, offset);
+				offset += 8;
+			}
+		}
+
+		OutputStream stream = file.write(false);
+		DataOutputStream out = new DataOutputStream(stream);
+
+		try {
+			out.write(KTX_IDENTIFIER);
+			writeIntLE(out, 0x04030201);
+			writeIntLE(out, 0); /* glType, 0 for compressed data */
+			writeIntLE(out, 1); /* glTypeSize */
+			writeIntLE(out, 0); /* glFormat, 0 for compressed data */
+			writeIntLE(out, GL_COMPRESSED_RGB_S3TC_DXT1_EXT);
+			writeIntLE(out, GL_RGB);
+			writeIntLE(out, width);
+			writeIntLE(out, height);
+			writeIntLE(out, 0); /* pixelDepth */
+			writeIntLE(out, 0); /* numberOfArrayElements */
+			writeIntLE(out, 1); /* numberOfFaces */
+			writeIntLE(out, 1); /* numberOfMipmapLevels */
+			writeIntLE(out, 0); /* bytesOfKeyValueData */
+			writeIntLE(out, data.length);
+			out.write(data);
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/******************************************************************
+	 * Encodes a 4x4 block of RGB888 pixels as DXT1. The two end colors
+	 * are the corners of the block's color bounding box, pulled in a
+	 * little so the in-between colors land closer to the real pixels.
+	 ******************************************************************/
+	private static void encodeDxt1Block(int[] block, byte[] out, int offset) {
+		int minR = 255, minG = 255, minB = 255, maxR = 0, maxG = 0, maxB = 0;
+
+		for(int i = 0; i < 16; i++) {
+			int r = (block[i] >> 16) & 0xff, g = (block[i] >> 8) & 0xff, b = block[i] & 0xff;
+			minR = Math.min(minR, r); minG = Math.min(minG, g); minB = Math.min(minB, b);
+			maxR = Math.max(maxR, r); maxG = Math.max(maxG, g); maxB = Math.max(maxB, b);
+		}
+
+		int insetR = (maxR - minR) >> 4, insetG = (maxG - minG) >> 4, insetB = (maxB - minB) >> 4;
+		int color0 = to565(maxR - insetR, maxG - insetG, maxB - insetB);
+		int color1 = to565(minR + insetR, minG + insetG, minB + insetB);
+		int indices = 0;
+
+		if(color0 < color1) {
+			int swap = color0;
+			color0 = color1;
+			color1 = swap;
+		}
+
+		if(color0 != color1) {
+			int[] palette = new int[12];
+			setPaletteColor(palette, 0, color0);
+			setPaletteColor(palette, 1, color1);
+
+			for(int c = 0; c < 3; c++) {
+				palette[6 + c] = (2 * palette[c] + palette[3 + c]) / 3;
+				palette[9 + c] = (palette[c] + 2 * palette[3 + c]) / 3;
+			}
+
+			for(int i = 0; i < 16; i++) {
+				int r = (block[i] >> 16) & 0xff, g = (block[i] >> 8) & 0xff, b = block[i] & 0xff;
+				int best = 0;
+				int bestDistance = Integer.MAX_VALUE;
+
+				for(int p = 0; p < 4; p++) {
+					int dr = r - palette[p * 3], dg = g - palette[p * 3 + 1], db = b - palette[p * 3 + 2];
+					int distance = dr * dr + dg * dg + db * db;
+
+					if(distance < bestDistance) {
+						bestDistance = distance;
+						best = p;
+					}
+				}
+
+				indices |= best << (i * 2);
+			}
+		}
+
+		out[offset] = (byte) color0;
+		out[offset + 1] = (byte) (color0 >> 8);
+		out[offset + 2] = (byte) color1;
+		out[offset + 3] = (byte) (color1 >> 8);
+		out[offset + 4] = (byte) indices;
+		out[offset + 5] = (byte) (indices >> 8);
+		out[offset + 6] = (byte) (indices >> 16);
+		out[offset + 7] = (byte) (indices >> 24);
+	}
+
+	/******************************************************************
+	 * Expands a 565 color back to 8 bits per channel into the palette.
+	 ******************************************************************/
+	private static void setPaletteColor(int[] palette, int index, int color) {
+		int r = (color >> 11) & 0x1f, g = (color >> 5) & 0x3f, b = color & 0x1f;
+		palette[index * 3] = (r << 3) | (r >> 2);
+		palette[index * 3 + 1] = (g << 2) | (g >> 4);
+		palette[index * 3 + 2] = (b << 3) | (b >> 2);
+	}
+
+	private static int to565(int r, int g, int b) {
+		return ((r >> 3) << 11) | ((g >> 2) << 5) | (b >> 3);
+	}
+
+	private static void writeIntLE(DataOutputStream out, int value) throws IOException {
+		out.writeInt(Integer.reverseBytes(value));
+	}
+}